@@ -4,9 +4,26 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 
+import java.util.function.Supplier;
+
 public interface NetworkHandler
 {
 
+    /**
+     * Register a network packet with its factory, the factory is used to create the network packet instance when
+     * the network packet is received, e.g. {@code registerPacket(PacketFoo.class, PacketFoo::new)}.
+     *
+     * @param packetClass   The class of the network packet.
+     * @param packetFactory The factory of the network packet, usually the reference of its no-args constructor.
+     */
+    <T extends NetworkPacket> void registerPacket(Class<T> packetClass, Supplier<T> packetFactory);
+
+    /**
+     * Register a network packet, its no-args constructor is resolved reflectively.
+     *
+     * @deprecated Use {@link #registerPacket(Class, Supplier)} instead.
+     */
+    @Deprecated
     void registerPacket(Class<? extends NetworkPacket> packetClass);
 
     void sendToAll(NetworkPacket packet);
@@ -12,7 +12,8 @@ import net.minecraft.network.PacketBuffer;
  *     <li>If this network packet is to be received on the server side, implement {@link ServerExecutor}.</li>
  *     <li>If this network packet is to be received on the client side, implement {@link ClientExecutor}.</li>
  * </ul>
- * Lastly, add a no-args constructor to the network packet class.
+ * Lastly, add a no-args constructor to the network packet class, and register its reference as the factory of the
+ * network packet.
  */
 public interface NetworkPacket
 {
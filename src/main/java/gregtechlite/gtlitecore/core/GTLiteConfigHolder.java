@@ -91,6 +91,43 @@ public class GTLiteConfigHolder
 
         }
 
+        @Comment({"Modifiable settings for Volcanus."})
+        @Name("Volcanus Options")
+        public Volcanus volcanus = new Volcanus();
+
+        public static class Volcanus
+        {
+
+            @Comment({"Interval (in ticks) of Blazing Pyrotheum draining in Volcanus, upkeep of these ticks is drained in one batch.",
+                      "Larger interval drains less frequently but holds more Blazing Pyrotheum in the controller.",
+                      "Default: 20"})
+            @Name("Blazing Pyrotheum drain interval")
+            @RangeInt(min = 1, max = 1200)
+            public int pyrotheumDrainInterval = 20;
+
+        }
+
+        @Comment({"Modifiable settings for Dual Input/Output Hatches."})
+        @Name("Dual Hatch Options")
+        public DualHatch dualHatch = new DualHatch();
+
+        public static class DualHatch
+        {
+
+            @Comment({"Auto-push and auto-pull of Dual Hatches only run after the contents of hatches or neighbors are changed.",
+                      "Transfers which moved nothing are retried with a growing interval, up to the maximum transfer interval.",
+                      "Default: false"})
+            @Name("Enable event-driven transfer")
+            public boolean eventDrivenTransfer = false;
+
+            @Comment({"Maximum interval (in ticks) of retried transfers when event-driven transfer is enabled.",
+                      "Default: 80"})
+            @Name("Maximum transfer interval")
+            @RangeInt(min = 5, max = 1200)
+            public int maxTransferInterval = 80;
+
+        }
+
     }
 
     public static class RecipeOptions
@@ -26,7 +26,8 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 import static gregtechlite.gtlitecore.api.GTLiteValues.MOD_ID;
 
@@ -52,7 +53,14 @@ public final class NetworkHandlerImpl implements NetworkHandler
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public void registerPacket(Class<? extends NetworkPacket> packetClass)
+    {
+        registerReflectivePacket(packetClass);
+    }
+
+    @Override
+    public <T extends NetworkPacket> void registerPacket(Class<T> packetClass, Supplier<T> packetFactory)
     {
         if (GTLiteAPI.moduleManager.hasPassedStage(ModuleStage.PRE_INIT))
         {
@@ -75,7 +83,33 @@ public final class NetworkHandlerImpl implements NetworkHandler
                     packetClass.getName());
             return;
         }
-        packetHandler.registerPacket(packetClass);
+        packetHandler.registerPacket(packetClass, packetFactory);
+    }
+
+    private <T extends NetworkPacket> void registerReflectivePacket(Class<T> packetClass)
+    {
+        // Resolve the constructor only once when registering, but instantiation of the packet is still reflective.
+        Constructor<T> constructor;
+        try
+        {
+            constructor = packetClass.getConstructor();
+        }
+        catch (NoSuchMethodException e)
+        {
+            CoreModule.logger.error("Could not register packet {}, as it does not have a public no-args constructor! Skipping...",
+                    packetClass.getName());
+            return;
+        }
+        registerPacket(packetClass, () -> {
+            try
+            {
+                return constructor.newInstance();
+            }
+            catch (ReflectiveOperationException e)
+            {
+                throw new IllegalStateException("Could not create packet " + packetClass.getName(), e);
+            }
+        });
     }
 
     @Override
@@ -122,7 +156,7 @@ public final class NetworkHandlerImpl implements NetworkHandler
 
     @SubscribeEvent
     @SideOnly(Side.CLIENT)
-    public void onClientPacket(@NotNull FMLNetworkEvent.ClientCustomPacketEvent event) throws Exception
+    public void onClientPacket(@NotNull FMLNetworkEvent.ClientCustomPacketEvent event)
     {
         NetworkPacket packet = toGTPacket(event.getPacket());
         if (ClientExecutor.class.isAssignableFrom(packet.getClass()))
@@ -142,7 +176,7 @@ public final class NetworkHandlerImpl implements NetworkHandler
     }
 
     @SubscribeEvent
-    public void onServerPacket(FMLNetworkEvent.@NotNull ServerCustomPacketEvent event) throws Exception
+    public void onServerPacket(FMLNetworkEvent.@NotNull ServerCustomPacketEvent event)
     {
         NetworkPacket packet = toGTPacket(event.getPacket());
         if (ServerExecutor.class.isAssignableFrom(packet.getClass()))
@@ -164,26 +198,28 @@ public final class NetworkHandlerImpl implements NetworkHandler
     @NotNull
     private FMLProxyPacket toFMLPacket(@NotNull NetworkPacket packet)
     {
-        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
-        buf.writeVarInt(packetHandler.getPacketId(packet.getClass()));
+        int packetId = packetHandler.getPacketId(packet.getClass());
+        // The payload is shared by all receivers and is never released by FML, so it is allocated unpooled. Sizing it
+        // by the recent encoded size of the same packet avoids re-allocating the backing array during encoding.
+        int sizeHint = packetHandler.getEncodedSizeHint(packetId);
+        PacketBuffer buf = new PacketBuffer(sizeHint > 0 ? Unpooled.buffer(sizeHint) : Unpooled.buffer());
+        buf.writeVarInt(packetId);
         packet.encode(buf);
+        packetHandler.updateEncodedSize(packetId, buf.writerIndex());
         return new FMLProxyPacket(buf, MOD_ID);
     }
 
     @NotNull
-    private NetworkPacket toGTPacket(@NotNull FMLProxyPacket proxyPacket) throws NoSuchMethodException,
-                                                                                 InvocationTargetException,
-                                                                                 InstantiationException,
-                                                                                 IllegalAccessException
+    private NetworkPacket toGTPacket(@NotNull FMLProxyPacket proxyPacket)
     {
         PacketBuffer payload = (PacketBuffer) proxyPacket.payload();
-        Class<? extends NetworkPacket> clazz = packetHandler.getPacketClass(payload.readVarInt());
-        NetworkPacket packet = clazz.getConstructor().newInstance();
+        int packetId = payload.readVarInt();
+        NetworkPacket packet = packetHandler.getPacketFactory(packetId).get();
         packet.decode(payload);
         if (payload.readableBytes() != 0)
         {
             GTLiteLog.logger.error("NetworkHandler failed to finish reading packet with class {} and {} bytes remaining",
-                    clazz.getName(), payload.readableBytes());
+                    packetHandler.getPacketClass(packetId).getName(), payload.readableBytes());
         }
         return packet;
     }
@@ -1,22 +1,40 @@
 package gregtechlite.gtlitecore.core.network;
 
 import gregtechlite.gtlitecore.api.network.NetworkPacket;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.util.IntIdentityHashBiMap;
 import org.jetbrains.annotations.ApiStatus.Internal;
 
+import java.util.Arrays;
+import java.util.function.Supplier;
+
 @Internal
 public class PacketHandler
 {
 
     private static final PacketHandler INSTANCE = new PacketHandler(10);
 
+    /**
+     * The max size hint of encoded network packets, larger packets are still encoded by growing the buffer.
+     */
+    private static final int MAX_ENCODED_SIZE_HINT = 1 << 16;
+
     private final IntIdentityHashBiMap<Class<? extends NetworkPacket>> packets;
+    private final Int2ObjectOpenHashMap<Supplier<? extends NetworkPacket>> packetFactories;
+
+    /**
+     * The recent encoded size of network packets, indexed by packet id. Used as the initial capacity of buffers when
+     * encoding network packets, races of updating are harmless as it is only a hint.
+     */
+    private int[] encodedSizes;
 
     private int id = 1;
 
     private PacketHandler(int initialCapacity)
     {
         this.packets = new IntIdentityHashBiMap<>(initialCapacity);
+        this.packetFactories = new Int2ObjectOpenHashMap<>(initialCapacity);
+        this.encodedSizes = new int[initialCapacity + 1];
     }
 
     /* package */ static PacketHandler getInstance()
@@ -24,8 +42,13 @@ public class PacketHandler
         return INSTANCE;
     }
 
-    public void registerPacket(Class<? extends NetworkPacket> packetClass)
+    public <T extends NetworkPacket> void registerPacket(Class<T> packetClass, Supplier<T> packetFactory)
     {
+        this.packetFactories.put(id, packetFactory);
+        if (id >= encodedSizes.length)
+        {
+            this.encodedSizes = Arrays.copyOf(encodedSizes, encodedSizes.length * 2);
+        }
         this.packets.put(packetClass, id++);
     }
 
@@ -39,4 +62,25 @@ public class PacketHandler
         return this.packets.get(packetId);
     }
 
+    public Supplier<? extends NetworkPacket> getPacketFactory(int packetId)
+    {
+        return this.packetFactories.get(packetId);
+    }
+
+    public int getEncodedSizeHint(int packetId)
+    {
+        return this.encodedSizes[packetId];
+    }
+
+    /**
+     * Update the size hint of the packet, the hint grows to larger sizes at once and decays to smaller sizes by 1/8 of
+     * the difference each time, so a single huge packet does not oversize buffers of the packet forever.
+     */
+    public void updateEncodedSize(int packetId, int encodedSize)
+    {
+        int size = Math.min(encodedSize, MAX_ENCODED_SIZE_HINT);
+        int sizeHint = this.encodedSizes[packetId];
+        this.encodedSizes[packetId] = size >= sizeHint ? size : sizeHint - ((sizeHint - size + 7) >> 3);
+    }
+
 }
@@ -0,0 +1,46 @@
+package gregtechlite.gtlitecore.mixins.gregtech;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.capability.impl.AbstractRecipeLogic;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtechlite.gtlitecore.api.recipe.map.MirroredRecipeMap;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Check conditions of source recipe maps for recipes which are shared by {@link MirroredRecipeMap}, the previous
+ * recipe is reused without searching it again, so the condition of the search is not enough.
+ */
+@Mixin(value = AbstractRecipeLogic.class, remap = false)
+public abstract class MixinAbstractRecipeLogic
+{
+
+    @Shadow
+    public abstract RecipeMap<?> getRecipeMap();
+
+    @Shadow
+    protected abstract IItemHandlerModifiable getInputInventory();
+
+    @Shadow
+    protected abstract IMultipleTankHandler getInputTank();
+
+    @Inject(method = "checkRecipe",
+            at = @At(value = "RETURN"),
+            cancellable = true)
+    private void checkMirroredRecipe(Recipe recipe, CallbackInfoReturnable<Boolean> cir)
+    {
+        if (!cir.getReturnValueZ()) return;
+        RecipeMap<?> recipeMap = getRecipeMap();
+        if (recipeMap != null
+                && !((MirroredRecipeMap) recipeMap).checkMirroredRecipe(recipe, getInputInventory(), getInputTank()))
+        {
+            cir.setReturnValue(false);
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import gregtech.api.pattern.TraceabilityPredicate;
 import gregtech.api.util.BlockInfo;
 import gregtech.api.util.RelativeDirection;
 import gregtechlite.gtlitecore.api.pattern.BlockPatternExtension;
+import gregtechlite.gtlitecore.api.pattern.BlockPatterns;
 import gregtechlite.gtlitecore.api.pattern.GTLitePredicate;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -19,9 +20,14 @@ import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @Mixin(value = BlockPattern.class, remap = false)
@@ -56,6 +62,12 @@ public abstract class MixinBlockPattern implements BlockPatternExtension
     @Unique
     private int gtlitecore$previewPages;
 
+    @Unique
+    private BlockPatterns.PreviewCache gtlitecore$previewCache;
+
+    @Unique
+    private List<BlockInfo> gtlitecore$previewParts;
+
     @SuppressWarnings("AddedMixinMembersNamePattern")
     @Override
     public int getPreviewPages()
@@ -78,6 +90,68 @@ public abstract class MixinBlockPattern implements BlockPatternExtension
         }
     }
 
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public @NotNull BlockPatterns.PreviewCache getPreviewCache()
+    {
+        if (gtlitecore$previewCache == null)
+        {
+            gtlitecore$previewCache = new BlockPatterns.PreviewCache();
+        }
+        return gtlitecore$previewCache;
+    }
+
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public @NotNull List<BlockInfo> getPreviewParts()
+    {
+        if (gtlitecore$previewParts == null)
+        {
+            Set<TraceabilityPredicate.SimplePredicate> predicates = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<BlockInfo> parts = new ArrayList<>();
+            for (TraceabilityPredicate[][] aisle : blockMatches)
+            {
+                for (TraceabilityPredicate[] column : aisle)
+                {
+                    for (TraceabilityPredicate predicate : column)
+                    {
+                        for (TraceabilityPredicate.SimplePredicate common : predicate.common)
+                        {
+                            gtlitecore$addPreviewParts(common, predicates, parts);
+                        }
+                        for (TraceabilityPredicate.SimplePredicate limit : predicate.limited)
+                        {
+                            gtlitecore$addPreviewParts(limit, predicates, parts);
+                        }
+                    }
+                }
+            }
+            gtlitecore$previewParts = parts;
+        }
+        return gtlitecore$previewParts;
+    }
+
+    /**
+     * Only the first candidate of a predicate is placed in previews, except predicates which preview all candidates.
+     */
+    @Unique
+    private void gtlitecore$addPreviewParts(TraceabilityPredicate.SimplePredicate predicate,
+                                            Set<TraceabilityPredicate.SimplePredicate> predicates,
+                                            List<BlockInfo> parts)
+    {
+        if (predicate.candidates == null || !predicates.add(predicate)) return;
+        BlockInfo[] infos = predicate.candidates.get();
+        if (infos == null || infos.length == 0) return;
+        if (gtlitecore$shouldPreviewCandidates(predicate))
+        {
+            parts.addAll(Arrays.asList(infos));
+        }
+        else
+        {
+            parts.add(infos[0]);
+        }
+    }
+
     // TODO When CEu rewrite block pattern checks and merged PR, rework this class.
     @SuppressWarnings("AddedMixinMembersNamePattern")
     @Override
@@ -0,0 +1,28 @@
+package gregtechlite.gtlitecore.mixins.gregtech;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtechlite.gtlitecore.api.pattern.StructureChangeListener;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(value = MetaTileEntity.class, remap = false)
+public abstract class MixinMetaTileEntity
+{
+
+    /**
+     * Structures of controllers can span several chunks, so all tracked chunks of them are untracked when they are
+     * unloaded or removed, otherwise they are still referenced by the other chunks.
+     */
+    @Inject(method = { "onUnload", "onRemoval" },
+            at = @At("HEAD"))
+    private void untrackStructure(CallbackInfo ci)
+    {
+        if (this instanceof StructureChangeListener)
+        {
+            ((StructureChangeListener) this).onStructureUnloaded();
+        }
+    }
+
+}
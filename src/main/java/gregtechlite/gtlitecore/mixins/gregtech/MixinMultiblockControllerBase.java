@@ -3,24 +3,40 @@ package gregtechlite.gtlitecore.mixins.gregtech;
 import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
 import gregtech.api.pattern.BlockPattern;
 import gregtech.api.pattern.MultiblockShapeInfo;
+import gregtechlite.gtlitecore.api.metatileentity.multiblock.IncrementalStructureCheck;
 import gregtechlite.gtlitecore.api.pattern.BlockPatterns;
+import gregtechlite.gtlitecore.api.pattern.StructureChangeListener;
+import gregtechlite.gtlitecore.api.pattern.StructureChangeTracker;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.List;
 
 @Mixin(value = MultiblockControllerBase.class, remap = false)
-public abstract class MixinMultiblockControllerBase
+public abstract class MixinMultiblockControllerBase implements StructureChangeListener
 {
 
     @Shadow
     @Nullable
     public BlockPattern structurePattern;
 
+    @Unique
+    private boolean gtlitecore$structureChanged = true;
+
+    @Unique
+    @Nullable
+    private LongSet gtlitecore$trackedChunks;
+
+    @Unique
+    private int gtlitecore$skippedChecks;
+
     @Inject(method = "getMatchingShapes()Ljava/util/List;",
             at = @At(value = "INVOKE",
                      target = "Lgregtech/api/metatileentity/multiblock/MultiblockControllerBase;repetitionDFS(Ljava/util/List;[[ILjava/util/Stack;)Ljava/util/List;"),
@@ -31,4 +47,78 @@ public abstract class MixinMultiblockControllerBase
         cir.setReturnValue(BlockPatterns.INSTANCE.getMatchingShapes(structurePattern));
     }
 
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public void onStructureChanged()
+    {
+        gtlitecore$structureChanged = true;
+    }
+
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public void onStructureUnloaded()
+    {
+        gtlitecore$untrackChunks();
+        gtlitecore$structureChanged = true;
+    }
+
+    @Inject(method = "checkStructurePattern()V",
+            at = @At(value = "HEAD"),
+            cancellable = true)
+    private void skipUnchangedStructure(CallbackInfo ci)
+    {
+        if (this instanceof IncrementalStructureCheck && !gtlitecore$structureChanged
+                && ((MultiblockControllerBase) (Object) this).isStructureFormed())
+        {
+            if (++gtlitecore$skippedChecks < IncrementalStructureCheck.FULL_CHECK_INTERVAL)
+            {
+                ci.cancel();
+                return;
+            }
+            // Not all block changes fire neighbor notifies, so a full check is forced periodically.
+            gtlitecore$structureChanged = true;
+        }
+    }
+
+    @Inject(method = "checkStructurePattern()V",
+            at = @At(value = "RETURN"))
+    private void trackMatchedChunks(CallbackInfo ci)
+    {
+        if (!(this instanceof IncrementalStructureCheck) || !gtlitecore$structureChanged) return;
+
+        MultiblockControllerBase controller = (MultiblockControllerBase) (Object) this;
+        gtlitecore$untrackChunks();
+        gtlitecore$skippedChecks = 0;
+        if (controller.isStructureFormed() && structurePattern != null)
+        {
+            LongSet chunks = StructureChangeTracker.INSTANCE.getMatchedChunks(structurePattern, controller.getPos());
+            // Keep the full check if there is nothing to track.
+            if (!chunks.isEmpty())
+            {
+                StructureChangeTracker.INSTANCE.track(controller.getWorld(), chunks, this);
+                gtlitecore$trackedChunks = chunks;
+                gtlitecore$structureChanged = false;
+            }
+        }
+    }
+
+    @Inject(method = "invalidateStructure",
+            at = @At(value = "HEAD"))
+    private void untrackInvalidatedStructure(CallbackInfo ci)
+    {
+        gtlitecore$untrackChunks();
+        gtlitecore$structureChanged = true;
+    }
+
+    @Unique
+    private void gtlitecore$untrackChunks()
+    {
+        if (gtlitecore$trackedChunks != null)
+        {
+            MultiblockControllerBase controller = (MultiblockControllerBase) (Object) this;
+            StructureChangeTracker.INSTANCE.untrack(controller.getWorld(), gtlitecore$trackedChunks, this);
+            gtlitecore$trackedChunks = null;
+        }
+    }
+
 }
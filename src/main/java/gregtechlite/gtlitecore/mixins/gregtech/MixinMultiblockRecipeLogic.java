@@ -1,23 +1,22 @@
 package gregtechlite.gtlitecore.mixins.gregtech;
 
-import gregtech.api.capability.INotifiableHandler;
 import gregtech.api.capability.impl.AbstractRecipeLogic;
-import gregtech.api.capability.impl.ItemHandlerList;
 import gregtech.api.capability.impl.MultiblockRecipeLogic;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.multiblock.MultiblockWithDisplayBase;
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController;
 import gregtech.api.recipes.RecipeMap;
-import gregtechlite.gtlitecore.api.capability.MultipleNotifiableHandler;
+import gregtechlite.gtlitecore.api.capability.DistinctBusIndex;
 import gregtechlite.gtlitecore.mixins.Implemented;
-import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 @Implemented(at = "https://github.com/GregTechCEu/GregTech/pull/2769")
@@ -28,13 +27,32 @@ public abstract class MixinMultiblockRecipeLogic extends AbstractRecipeLogic
     @Shadow
     protected List<IItemHandlerModifiable> invalidatedInputList;
 
+    @Unique
+    private final DistinctBusIndex gtlitecore$busIndex = new DistinctBusIndex();
+
     public MixinMultiblockRecipeLogic(MetaTileEntity tileEntity, RecipeMap<?> recipeMap)
     {
         super(tileEntity, recipeMap);
     }
 
+    @Inject(method = "<init>",
+            at = @At(value = "RETURN"))
+    private void injectInvalidatedInputList(CallbackInfo ci)
+    {
+        invalidatedInputList = gtlitecore$busIndex.getInvalidatedList();
+    }
+
+    @Inject(method = "invalidate",
+            at = @At(value = "HEAD"))
+    private void injectInvalidate(CallbackInfo ci)
+    {
+        gtlitecore$busIndex.markDirty();
+    }
+
     /**
-     * @reason Allowed to check notified inputs list when check working for inputs in recipe logic.
+     * @reason Allowed to check notified inputs list when check working for inputs in recipe logic. The notified
+     *         handlers are resolved to bus ordinals by {@link DistinctBusIndex}, so only the buses which are notified
+     *         since the last check will be visited.
      * @author Magic_Sweepy
      */
     @Overwrite
@@ -49,64 +67,33 @@ public abstract class MixinMultiblockRecipeLogic extends AbstractRecipeLogic
             if (distinctController.canBeDistinct() && distinctController.isDistinct()
                     && getInputInventory().getSlots() > 0)
             {
-                boolean canWork = false;
                 if (invalidatedInputList.isEmpty()) return true;
 
                 if (!metaTileEntity.getNotifiedFluidInputList().isEmpty())
                 {
-                    canWork = true;
                     invalidatedInputList.clear();
                     metaTileEntity.getNotifiedFluidInputList().clear();
                     metaTileEntity.getNotifiedItemInputList().clear();
+                    return true;
                 }
-                else
-                {
-                    Iterator<IItemHandlerModifiable> notifiedIter = metaTileEntity.getNotifiedItemInputList().iterator();
-                    while (notifiedIter.hasNext())
-                    {
-                        IItemHandlerModifiable bus = notifiedIter.next();
-                        Iterator<IItemHandlerModifiable> invalidatedIter = invalidatedInputList.iterator();
-                        while (invalidatedIter.hasNext()) {
-                            IItemHandler invalidatedHandler = invalidatedIter.next();
-                            if (invalidatedHandler instanceof MultipleNotifiableHandler)
-                            {
-                                MultipleNotifiableHandler multipleNotifiableHandler = (MultipleNotifiableHandler) invalidatedHandler;
-                                for (INotifiableHandler notifiableHandler : multipleNotifiableHandler.getBackingNotifiers())
-                                {
-                                    if (notifiableHandler == bus)
-                                    {
-                                        canWork = true;
-                                        invalidatedIter.remove();
-                                        break;
-                                    }
-                                }
-                            }
-                            else if (invalidatedHandler == bus)
-                            {
-                                canWork = true;
-                                invalidatedIter.remove();
-                            }
-                        }
-                        notifiedIter.remove();
-                    }
-                }
-                ArrayList<IItemHandler> flattenedHandlers = new ArrayList<>();
-                for (IItemHandler itemHandler : getInputBuses())
+
+                DistinctBusIndex busIndex = gtlitecore$busIndex;
+                busIndex.update(getInputBuses());
+
+                boolean canWork = false;
+                List<IItemHandlerModifiable> notifiedInputs = metaTileEntity.getNotifiedItemInputList();
+                for (int i = 0; i < notifiedInputs.size(); i++)
                 {
-                    if (itemHandler instanceof ItemHandlerList)
+                    int ordinal = busIndex.ordinalOf(notifiedInputs.get(i));
+                    if (ordinal >= 0 && busIndex.isInvalidated(ordinal))
                     {
-                        flattenedHandlers.addAll(((ItemHandlerList) itemHandler).getBackingHandlers());
+                        canWork = true;
+                        invalidatedInputList.remove(busIndex.getBus(ordinal));
                     }
-                    flattenedHandlers.add(itemHandler);
-                }
-
-                // noinspection SlowListContainsAll, SuspiciousMethodCalls
-                if (!invalidatedInputList.containsAll(flattenedHandlers))
-                {
-                    canWork = true;
                 }
+                notifiedInputs.clear();
 
-                return canWork;
+                return canWork || busIndex.hasValidBus();
             }
         }
         return super.canWorkWithInputs();
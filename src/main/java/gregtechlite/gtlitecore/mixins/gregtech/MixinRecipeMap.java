@@ -0,0 +1,95 @@
+package gregtechlite.gtlitecore.mixins.gregtech;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtechlite.gtlitecore.api.recipe.map.MirroredRecipeMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mixin(value = RecipeMap.class, remap = false)
+public abstract class MixinRecipeMap implements MirroredRecipeMap
+{
+
+    @Unique
+    private List<RecipeMap<?>> gtlitecore$mirrorSources;
+
+    @Unique
+    private List<MirrorCondition> gtlitecore$mirrorConditions;
+
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public void addMirrorSource(@NotNull RecipeMap<?> source, @NotNull MirrorCondition condition)
+    {
+        // Source recipes are searched when the lookup of RecipeMap returns, which is skipped by overridden lookups.
+        try
+        {
+            Class<?> owner = getClass().getMethod("findRecipe", long.class, List.class, List.class, boolean.class)
+                    .getDeclaringClass();
+            if (owner != RecipeMap.class)
+                throw new IllegalStateException("Recipe map " + this + " overrides findRecipe and can not be mirrored");
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        if (gtlitecore$mirrorSources == null)
+        {
+            gtlitecore$mirrorSources = new ArrayList<>();
+            gtlitecore$mirrorConditions = new ArrayList<>();
+        }
+        gtlitecore$mirrorSources.add(source);
+        gtlitecore$mirrorConditions.add(condition);
+    }
+
+    @SuppressWarnings("AddedMixinMembersNamePattern")
+    @Override
+    public boolean checkMirroredRecipe(@NotNull Recipe recipe,
+                                       @NotNull IItemHandlerModifiable inputs,
+                                       @NotNull IMultipleTankHandler fluidInputs)
+    {
+        if (gtlitecore$mirrorSources == null) return true;
+        RecipeMap<?> owner = recipe.getRecipeCategory().getRecipeMap();
+        for (int i = 0; i < gtlitecore$mirrorSources.size(); i++)
+        {
+            if (gtlitecore$mirrorSources.get(i) != owner) continue;
+            MirrorCondition condition = gtlitecore$mirrorConditions.get(i);
+            return condition == MirrorCondition.ALWAYS || condition.test(inputs, fluidInputs);
+        }
+        return true;
+    }
+
+    @Inject(method = "findRecipe(JLjava/util/List;Ljava/util/List;Z)Lgregtech/api/recipes/Recipe;",
+            at = @At(value = "RETURN"),
+            cancellable = true)
+    private void findMirroredRecipe(long voltage,
+                                    List<ItemStack> inputs,
+                                    List<FluidStack> fluidInputs,
+                                    boolean exactVoltage,
+                                    CallbackInfoReturnable<Recipe> cir)
+    {
+        if (cir.getReturnValue() != null || gtlitecore$mirrorSources == null) return;
+        for (int i = 0; i < gtlitecore$mirrorSources.size(); i++)
+        {
+            if (!gtlitecore$mirrorConditions.get(i).test(inputs, fluidInputs)) continue;
+            Recipe recipe = gtlitecore$mirrorSources.get(i).findRecipe(voltage, inputs, fluidInputs, exactVoltage);
+            if (recipe != null)
+            {
+                cir.setReturnValue(recipe);
+                return;
+            }
+        }
+    }
+
+}
@@ -319,6 +319,11 @@ public abstract class MixinJustEnoughItemsModule implements InjectableModRegistr
 
             registry.addRecipeCatalyst(GTLiteMetaTileEntities.NANO_ASSEMBLY_COMPLEX.getStackForm(),
                     GTValues.MODID + "." + GTLiteRecipeMaps.SPACE_ASSEMBLER_RECIPES.unlocalizedName);
+            registry.addRecipeCatalyst(GTLiteMetaTileEntities.NANO_ASSEMBLY_COMPLEX.getStackForm(),
+                    GTValues.MODID + "." + RecipeMaps.ASSEMBLY_LINE_RECIPES.unlocalizedName);
+
+            registry.addRecipeCatalyst(GTLiteMetaTileEntities.LARGE_MIXER.getStackForm(),
+                    GTValues.MODID + "." + RecipeMaps.MIXER_RECIPES.unlocalizedName);
         }
     }
 
@@ -0,0 +1,132 @@
+package gregtechlite.gtlitecore.mixins.gregtech.client;
+
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
+import gregtech.api.metatileentity.multiblock.MultiblockControllerBase;
+import gregtech.api.pattern.MultiblockShapeInfo;
+import gregtech.api.util.BlockInfo;
+import gregtech.integration.jei.multiblock.MBPattern;
+import gregtech.integration.jei.multiblock.MultiblockInfoRecipeWrapper;
+import gregtechlite.gtlitecore.api.pattern.BlockPatterns;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Build pages of multiblock info lazily, only the first page is built when the recipe wrapper is constructed, and the
+ * other pages (which world scene renderers are expensive) are built when they are selected. Parts of other pages are
+ * gathered from candidates of the block pattern, so JEI can look up all parts of the multiblock without building them.
+ */
+@Mixin(value = MultiblockInfoRecipeWrapper.class, remap = false)
+public abstract class MixinMultiblockInfoRecipeWrapper
+{
+
+    @Shadow
+    @Final
+    private Set<ItemStack> allItemStackInputs;
+
+    @Unique
+    private List<MultiblockShapeInfo> gtlitecore$shapes;
+
+    @Shadow
+    private MBPattern initializePattern(@NotNull MultiblockShapeInfo shapeInfo, @NotNull Set<ItemStack> parts)
+    {
+        throw new AssertionError();
+    }
+
+    @Redirect(method = "<init>",
+              at = @At(value = "INVOKE",
+                       target = "Lgregtech/api/metatileentity/multiblock/MultiblockControllerBase;getMatchingShapes()Ljava/util/List;"))
+    private List<MultiblockShapeInfo> captureMatchingShapes(MultiblockControllerBase controller)
+    {
+        gtlitecore$shapes = controller.getMatchingShapes();
+        return gtlitecore$shapes;
+    }
+
+    @Redirect(method = "<init>",
+              at = @At(value = "INVOKE",
+                       target = "Ljava/util/stream/Stream;toArray(Ljava/util/function/IntFunction;)[Ljava/lang/Object;"))
+    private Object[] initializeFirstPattern(Stream<?> stream, IntFunction<?> generator)
+    {
+        MBPattern[] patterns = new MBPattern[gtlitecore$shapes.size()];
+        if (patterns.length > 1)
+        {
+            List<BlockInfo> parts = BlockPatterns.INSTANCE.getPreviewParts(gtlitecore$shapes);
+            if (parts != null)
+            {
+                parts.forEach(this::gtlitecore$addPart);
+            }
+            else
+            {
+                // Shapes which are not built from a block pattern are already built, so their blocks are walked.
+                for (int i = 1; i < patterns.length; i++)
+                    gtlitecore$gatherParts(gtlitecore$shapes.get(i));
+            }
+        }
+        if (patterns.length > 0)
+            patterns[0] = initializePattern(gtlitecore$shapes.get(0), allItemStackInputs);
+        return patterns;
+    }
+
+    @Redirect(method = "*",
+              at = @At(value = "FIELD",
+                       target = "Lgregtech/integration/jei/multiblock/MultiblockInfoRecipeWrapper;patterns:[Lgregtech/integration/jei/multiblock/MBPattern;",
+                       args = "array=get"))
+    private MBPattern getOrInitializePattern(MBPattern[] patterns, int index)
+    {
+        MBPattern pattern = patterns[index];
+        if (pattern == null)
+        {
+            pattern = initializePattern(gtlitecore$shapes.get(index), allItemStackInputs);
+            patterns[index] = pattern;
+        }
+        return pattern;
+    }
+
+    @Unique
+    private void gtlitecore$gatherParts(MultiblockShapeInfo shapeInfo)
+    {
+        for (BlockInfo[][] aisle : shapeInfo.getBlocks())
+        {
+            for (BlockInfo[] column : aisle)
+            {
+                for (BlockInfo blockInfo : column)
+                {
+                    if (blockInfo == null) continue;
+                    gtlitecore$addPart(blockInfo);
+                }
+            }
+        }
+    }
+
+    @Unique
+    private void gtlitecore$addPart(BlockInfo blockInfo)
+    {
+        TileEntity tileEntity = blockInfo.getTileEntity();
+        if (tileEntity instanceof IGregTechTileEntity && ((IGregTechTileEntity) tileEntity).getMetaTileEntity() != null)
+        {
+            allItemStackInputs.add(((IGregTechTileEntity) tileEntity).getMetaTileEntity().getStackForm());
+            return;
+        }
+        IBlockState state = blockInfo.getBlockState();
+        Block block = state.getBlock();
+        Item item = Item.getItemFromBlock(block);
+        if (item == Items.AIR) return;
+        allItemStackInputs.add(new ItemStack(item, 1, block.damageDropped(state)));
+    }
+
+}
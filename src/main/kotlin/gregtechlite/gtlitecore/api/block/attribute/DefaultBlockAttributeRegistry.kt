@@ -26,7 +26,7 @@ class DefaultBlockAttributeRegistry<T>(override val name: String, comparator: Co
 
     override fun register(state: IBlockState, attribute: T)
     {
-        attributeLookup[state] = attribute
+        attributeLookup.put(state, attribute)?.also { removeBlock(it, state) }
         blockLookup.computeIfAbsent(attribute) { mutableListOf() }.add(state)
         invalidate()
     }
@@ -39,7 +39,8 @@ class DefaultBlockAttributeRegistry<T>(override val name: String, comparator: Co
     override fun unregister(state: IBlockState)
     {
         attributeLookup.remove(state)?.also {
-            blockLookup[it]?.remove(state)
+            removeBlock(it, state)
+            invalidate()
         }
     }
 
@@ -53,10 +54,18 @@ class DefaultBlockAttributeRegistry<T>(override val name: String, comparator: Co
         return blockLookup[attribute]
     }
 
+    private fun removeBlock(attribute: T, state: IBlockState)
+    {
+        val blocks = blockLookup[attribute] ?: return
+        blocks.remove(state)
+        if (blocks.isEmpty())
+            blockLookup.remove(attribute)
+    }
+
     private fun invalidate()
     {
         _ascendingBlocks.invalidate()
         _descendingBlocks.invalidate()
     }
 
-}
\ No newline at end of file
+}
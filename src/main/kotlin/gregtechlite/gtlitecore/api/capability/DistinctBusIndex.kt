@@ -0,0 +1,161 @@
+package gregtechlite.gtlitecore.api.capability
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap
+import net.minecraftforge.items.IItemHandlerModifiable
+import java.util.BitSet
+import java.util.function.Predicate
+
+/**
+ * Ordinal index of the distinct input buses of a multiblock recipe logic.
+ *
+ * Every input bus gets an ordinal by its position in the input bus list, and the backing notifiers of a
+ * [MultipleNotifiableHandler] bus share the ordinal of its owner bus. The invalidated state of buses is kept as a
+ * bitset which is maintained by [invalidatedList], so the distinct check of recipe logic can resolve a notified
+ * handler to its bus and test it without scanning and flattening handler lists.
+ */
+class DistinctBusIndex
+{
+
+    private val ordinals = Reference2IntOpenHashMap<Any>().apply { defaultReturnValue(-1) }
+
+    private val invalidated = BitSet()
+
+    private var buses = arrayOfNulls<IItemHandlerModifiable>(0)
+
+    private var size = 0
+
+    private var dirty = true
+
+    /**
+     * The invalidated input list of recipe logic, all modifications of this list are mirrored to the bitset of index.
+     */
+    val invalidatedList: MutableList<IItemHandlerModifiable> = InvalidatedList()
+
+    /**
+     * Mark the index as outdated, e.g. when the structure of multiblock is invalidated.
+     */
+    fun markDirty()
+    {
+        dirty = true
+    }
+
+    /**
+     * Rebuild the index from [inputBuses] if it is outdated, otherwise it does nothing.
+     */
+    fun update(inputBuses: List<IItemHandlerModifiable>)
+    {
+        if (!dirty && inputBuses.size == size) return
+
+        ordinals.clear()
+        if (buses.size < inputBuses.size)
+            buses = arrayOfNulls(inputBuses.size)
+        else
+            buses.fill(null)
+
+        size = inputBuses.size
+        for (ordinal in 0 until size)
+        {
+            val bus = inputBuses[ordinal]
+            buses[ordinal] = bus
+            if (bus is MultipleNotifiableHandler)
+            {
+                for (notifier in bus.getBackingNotifiers())
+                    ordinals.putIfAbsent(notifier, ordinal)
+            }
+            ordinals.put(bus, ordinal)
+        }
+
+        dirty = false
+        resync()
+    }
+
+    /**
+     * Get the ordinal of the bus which owns [handler], or `-1` if the handler is not a part of any indexed bus.
+     */
+    fun ordinalOf(handler: Any) = ordinals.getInt(handler)
+
+    fun getBus(ordinal: Int) = buses[ordinal]!!
+
+    fun isInvalidated(ordinal: Int) = invalidated.get(ordinal)
+
+    /**
+     * Returns `true` if there is at least one indexed bus which is not invalidated.
+     */
+    fun hasValidBus() = invalidated.nextClearBit(0) < size
+
+    private fun mark(element: Any?, isInvalidated: Boolean)
+    {
+        if (element == null) return
+        val ordinal = ordinals.getInt(element)
+        if (ordinal >= 0 && buses[ordinal] === element)
+            invalidated.set(ordinal, isInvalidated)
+    }
+
+    private fun resync()
+    {
+        invalidated.clear()
+        for (bus in invalidatedList)
+            mark(bus, true)
+    }
+
+    private inner class InvalidatedList : ArrayList<IItemHandlerModifiable>()
+    {
+
+        override fun contains(element: IItemHandlerModifiable): Boolean
+        {
+            if (dirty) return super.contains(element)
+            val ordinal = ordinals.getInt(element)
+            return if (ordinal >= 0 && buses[ordinal] === element)
+                invalidated.get(ordinal)
+            else
+                super.contains(element)
+        }
+
+        override fun add(element: IItemHandlerModifiable): Boolean
+        {
+            super.add(element)
+            mark(element, true)
+            return true
+        }
+
+        override fun add(index: Int, element: IItemHandlerModifiable)
+        {
+            super.add(index, element)
+            mark(element, true)
+        }
+
+        override fun remove(element: IItemHandlerModifiable): Boolean
+        {
+            if (!super.remove(element)) return false
+            mark(element, super.contains(element))
+            return true
+        }
+
+        override fun removeAt(index: Int): IItemHandlerModifiable
+        {
+            val element = super.removeAt(index)
+            mark(element, super.contains(element))
+            return element
+        }
+
+        override fun clear()
+        {
+            super.clear()
+            invalidated.clear()
+        }
+
+        override fun addAll(elements: Collection<IItemHandlerModifiable>): Boolean
+            = super.addAll(elements).also { resync() }
+
+        override fun removeAll(elements: Collection<IItemHandlerModifiable>): Boolean
+            = super.removeAll(elements).also { resync() }
+
+        override fun retainAll(elements: Collection<IItemHandlerModifiable>): Boolean
+            = super.retainAll(elements).also { resync() }
+
+        override fun removeIf(filter: Predicate<in IItemHandlerModifiable>): Boolean
+            = super.removeIf(filter).also { resync() }
+
+    }
+
+}
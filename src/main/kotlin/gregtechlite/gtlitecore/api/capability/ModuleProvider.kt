@@ -2,6 +2,9 @@ package gregtechlite.gtlitecore.api.capability
 
 import gregtech.api.capability.IEnergyContainer
 import gregtech.api.capability.IOpticalComputationProvider
+import gregtech.api.metatileentity.interfaces.IGregTechTileEntity
+import net.minecraft.util.math.BlockPos
+import net.minecraft.world.World
 
 interface ModuleProvider
 {
@@ -26,4 +29,32 @@ interface ModuleProvider
      * @param receiver The mte which implement [ModuleReceiver].
      */
     fun isModule(receiver: ModuleReceiver): Boolean
+
+    /**
+     * Attach [receiver] to this provider again, e.g. when the structure of a detached module is formed. The module is
+     * only attached when the structure of this provider is formed.
+     */
+    fun attachModule(receiver: ModuleReceiver)
+
+    /**
+     * Detach [receiver] from this provider, e.g. when the structure of the module is invalidated or the module is
+     * removed.
+     */
+    fun detachModule(receiver: ModuleReceiver)
+
+    companion object
+    {
+
+        /**
+         * Get the module provider at [pos], returns `null` if [pos] is not loaded or there is no module provider.
+         */
+        @JvmStatic
+        fun getModuleProvider(world: World, pos: BlockPos): ModuleProvider?
+        {
+            if (!world.isBlockLoaded(pos)) return null
+            return (world.getTileEntity(pos) as? IGregTechTileEntity)?.metaTileEntity as? ModuleProvider
+        }
+
+    }
+
 }
@@ -1,5 +1,7 @@
 package gregtechlite.gtlitecore.api.capability
 
+import gregtech.api.capability.IEnergyContainer
+
 interface ModuleReceiver
 {
     var moduleProvider: ModuleProvider?
@@ -15,4 +17,9 @@ interface ModuleReceiver
      * Sent `isWorkingEnabled` to all modules.
      */
     fun sentWorkingEnabled()
+
+    /**
+     * Receive energy from [container] of the module provider, called by the provider in its energy distribution.
+     */
+    fun receiveEnergy(container: IEnergyContainer)
 }
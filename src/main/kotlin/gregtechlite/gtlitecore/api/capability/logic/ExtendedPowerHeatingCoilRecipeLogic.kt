@@ -1,17 +1,24 @@
 package gregtechlite.gtlitecore.api.capability.logic
 
 import gregtech.api.GTValues.VOC
+import gregtech.api.capability.IMultipleTankHandler
 import gregtech.api.capability.impl.EnergyContainerList
 import gregtech.api.capability.impl.HeatingCoilRecipeLogic
+import gregtech.api.metatileentity.IVoidable
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController
+import gregtech.api.recipes.Recipe
+import gregtech.api.recipes.RecipeBuilder
+import gregtech.api.recipes.RecipeMap
 import gregtech.api.util.GTUtility.getFloorTierByVoltage
+import net.minecraftforge.items.IItemHandlerModifiable
 import kotlin.math.max
 
 /**
  * This recipe logic ignored the maximum overclock voltage of energy hatches limit.
  * It is the revert of GTCEu [PR#2139](https://github.com/GregTechCEu/GregTech/pull/2139).
  *
- * Used for some mega machines or machine which has specific energy requirement.
+ * Used for some mega machines or machine which has specific energy requirement. Effectively unbounded parallel limits
+ * are computed by [UnboundedParallelLogic].
  */
 open class ExtendedPowerHeatingCoilRecipeLogic(metaTileEntity: RecipeMapMultiblockController) : HeatingCoilRecipeLogic(metaTileEntity)
 {
@@ -52,4 +59,21 @@ open class ExtendedPowerHeatingCoilRecipeLogic(metaTileEntity: RecipeMapMultiblo
         return max(energyContainer.inputVoltage.toDouble(), energyContainer.outputVoltage.toDouble()).toLong()
     }
 
+    override fun findMultipliedParallelRecipe(recipeMap: RecipeMap<*>,
+                                              currentRecipe: Recipe,
+                                              inputs: IItemHandlerModifiable,
+                                              fluidInputs: IMultipleTankHandler,
+                                              outputs: IItemHandlerModifiable,
+                                              fluidOutputs: IMultipleTankHandler,
+                                              parallelLimit: Int,
+                                              maxVoltage: Long,
+                                              voidable: IVoidable): RecipeBuilder<*>?
+    {
+        return UnboundedParallelLogic.doParallelRecipes(recipeMap, currentRecipe, inputs, fluidInputs, outputs,
+                                                        fluidOutputs, parallelLimit, maxVoltage, voidable) {
+            super.findMultipliedParallelRecipe(recipeMap, currentRecipe, inputs, fluidInputs, outputs, fluidOutputs,
+                                               parallelLimit, maxVoltage, voidable)
+        }
+    }
+
 }
\ No newline at end of file
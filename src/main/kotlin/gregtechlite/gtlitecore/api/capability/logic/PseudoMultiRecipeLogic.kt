@@ -6,27 +6,48 @@ import gregtech.api.recipes.Recipe
 import gregtech.api.recipes.RecipeMap
 import gregtechlite.gtlitecore.api.metatileentity.PseudoMultiMachineMetaTileEntity
 import gregtechlite.gtlitecore.api.recipe.property.PseudoMultiProperty
+import gregtechlite.gtlitecore.api.recipe.property.value.PseudoMultiPropertyValues
 import java.util.function.Supplier
 
 class PseudoMultiRecipeLogic(private val pseudoMetaTileEntity: PseudoMultiMachineMetaTileEntity, recipeMap: RecipeMap<*>?, energyContainer: Supplier<IEnergyContainer?>?) : RecipeLogicEnergy(pseudoMetaTileEntity, recipeMap, energyContainer)
 {
 
+    // Cached check result of the target block for the last checked property values.
+    private var lastPropertyValues: PseudoMultiPropertyValues? = null
+    private var isTargetBlockValid = false
+
+    /**
+     * Should be called when the target block state of the machine is changed.
+     */
+    fun onTargetBlockChanged()
+    {
+        lastPropertyValues = null
+    }
+
+    private fun isValidTargetBlock(values: PseudoMultiPropertyValues): Boolean
+    {
+        if (values !== lastPropertyValues)
+        {
+            isTargetBlockValid = values.isValidBlockState(pseudoMetaTileEntity.targetBlockState)
+            lastPropertyValues = values
+        }
+        return isTargetBlockValid
+    }
+
     override fun checkRecipe(recipe: Recipe): Boolean
     {
         if (pseudoMetaTileEntity.targetBlockState == null)
             return false // If world was remote or null then return.
 
         // If no property was given don't check if state matches.
-        return !recipe.hasProperty(PseudoMultiProperty)
-                || recipe.getProperty(PseudoMultiProperty, null)!!
-                        .validBlockStates.contains(pseudoMetaTileEntity.targetBlockState) && super.checkRecipe(recipe)
+        val values = recipe.getProperty(PseudoMultiProperty, null) ?: return true
+        return isValidTargetBlock(values) && super.checkRecipe(recipe)
     }
 
     override fun canProgressRecipe(): Boolean
     {
-        return previousRecipe == null || !previousRecipe.hasProperty(PseudoMultiProperty)
-                || previousRecipe.getProperty(PseudoMultiProperty, null)!!
-                        .validBlockStates.contains(pseudoMetaTileEntity.targetBlockState) && super.canProgressRecipe()
+        val values = previousRecipe?.getProperty(PseudoMultiProperty, null) ?: return true
+        return isValidTargetBlock(values) && super.canProgressRecipe()
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,322 @@
+package gregtechlite.gtlitecore.api.capability.logic
+
+import gregtech.api.capability.IMultipleTankHandler
+import gregtech.api.metatileentity.IVoidable
+import gregtech.api.recipes.Recipe
+import gregtech.api.recipes.RecipeBuilder
+import gregtech.api.recipes.RecipeMap
+import net.minecraft.item.ItemStack
+import net.minecraftforge.fluids.FluidStack
+import net.minecraftforge.fluids.IFluidTank
+import net.minecraftforge.items.IItemHandlerModifiable
+import net.minecraftforge.items.ItemHandlerHelper
+import kotlin.math.abs
+import kotlin.math.min
+
+/**
+ * Closed-form parallel computation for recipe logics with effectively unbounded parallel limits.
+ *
+ * The stock parallel logic of GTCEu probes the inventories with simulated merges before it settles, which costs more
+ * when the parallel limit is huge. This logic counts the available multiples of each ingredient in one pass over the
+ * merged input handlers, divides them by the recipe requirements directly, then caps the result by the voltage and
+ * by the output space (which is an arithmetic bisection on the counted free space, not on the inventories). Empty
+ * slots and tanks are only counted when a simulated insert or fill of every output kind is accepted by them.
+ *
+ * Returns `null` from [computeParallel] when the recipe can not be settled by this logic, e.g. an input stack matches
+ * more than one ingredient or the counted output space is not enough for a single recipe, then the caller should fall
+ * back to the stock parallel logic.
+ */
+object UnboundedParallelLogic
+{
+
+    /**
+     * Parallel limits which are not less than this value will be computed by this logic.
+     */
+    const val UNBOUNDED_PARALLEL_THRESHOLD = 1 shl 12
+
+    /**
+     * Compute the parallel recipe by this logic if [parallelLimit] is effectively unbounded, otherwise or if the recipe
+     * can not be settled by this logic, returns the result of [fallback] (usually the stock parallel logic).
+     */
+    inline fun doParallelRecipes(recipeMap: RecipeMap<*>,
+                                 recipe: Recipe,
+                                 inputs: IItemHandlerModifiable,
+                                 fluidInputs: IMultipleTankHandler,
+                                 outputs: IItemHandlerModifiable,
+                                 fluidOutputs: IMultipleTankHandler,
+                                 parallelLimit: Int,
+                                 maxVoltage: Long,
+                                 voidable: IVoidable,
+                                 fallback: () -> RecipeBuilder<*>?): RecipeBuilder<*>?
+    {
+        if (parallelLimit >= UNBOUNDED_PARALLEL_THRESHOLD)
+        {
+            val parallel = computeParallel(recipe, inputs, fluidInputs, outputs, fluidOutputs,
+                                           parallelLimit, maxVoltage, voidable)
+            if (parallel != null)
+                return buildParallelRecipe(recipeMap, recipe, parallel)
+        }
+        return fallback()
+    }
+
+    /**
+     * Build the parallel recipe of [recipe] with [parallel] which computed by [computeParallel], returns `null` if the
+     * inputs are not enough for a single recipe, same as the stock parallel logic.
+     */
+    fun buildParallelRecipe(recipeMap: RecipeMap<*>, recipe: Recipe, parallel: Int): RecipeBuilder<*>?
+    {
+        if (parallel <= 0) return null
+        return recipeMap.recipeBuilder().EUt(0).append(recipe, parallel, false)
+    }
+
+    /**
+     * Compute the parallel amount of [recipe], returns `0` if inputs are not enough for a single recipe, or `null`
+     * if the recipe can not be settled by this logic.
+     */
+    fun computeParallel(recipe: Recipe,
+                        inputs: IItemHandlerModifiable,
+                        fluidInputs: IMultipleTankHandler,
+                        outputs: IItemHandlerModifiable,
+                        fluidOutputs: IMultipleTankHandler,
+                        parallelLimit: Int,
+                        maxVoltage: Long,
+                        voidable: IVoidable): Int?
+    {
+        var parallel = parallelLimit.toLong()
+
+        // Limit by voltage, the parallel recipe can not consume or produce more than the maximum voltage.
+        if (recipe.eUt != 0L)
+            parallel = min(parallel, maxVoltage / abs(recipe.eUt))
+
+        parallel = min(parallel, limitByItemInputs(recipe, inputs) ?: return null)
+        parallel = min(parallel, limitByFluidInputs(recipe, fluidInputs) ?: return null)
+        if (parallel <= 0) return 0
+
+        if (!voidable.canVoidRecipeItemOutputs())
+            parallel = limitByItemOutputs(recipe.allItemOutputs, outputs, parallel) ?: return null
+        if (!voidable.canVoidRecipeFluidOutputs())
+            parallel = limitByFluidOutputs(recipe.allFluidOutputs, fluidOutputs, parallel) ?: return null
+
+        // The counted output space is conservative for mixed slot limits or tank capacities, let the stock logic
+        // decide if outputs are really full.
+        if (parallel <= 0) return null
+        return parallel.toInt()
+    }
+
+    private fun limitByItemInputs(recipe: Recipe, inputs: IItemHandlerModifiable): Long?
+    {
+        val ingredients = recipe.inputs
+        if (ingredients.isEmpty()) return Long.MAX_VALUE
+
+        val available = LongArray(ingredients.size)
+        for (slot in 0 until inputs.slots)
+        {
+            val stack = inputs.getStackInSlot(slot)
+            if (stack.isEmpty) continue
+            var matched = -1
+            for (i in ingredients.indices)
+            {
+                if (!ingredients[i].acceptsStack(stack)) continue
+                // A stack shared by ingredients can not be divided directly.
+                if (matched != -1) return null
+                matched = i
+            }
+            if (matched != -1)
+                available[matched] += stack.count.toLong()
+        }
+        return divideByRequirements(ingredients.size, available,
+                                    { ingredients[it].amount }, { ingredients[it].isNonConsumable })
+    }
+
+    private fun limitByFluidInputs(recipe: Recipe, fluidInputs: IMultipleTankHandler): Long?
+    {
+        val ingredients = recipe.fluidInputs
+        if (ingredients.isEmpty()) return Long.MAX_VALUE
+
+        val available = LongArray(ingredients.size)
+        for (tank in fluidInputs.fluidTanks)
+        {
+            val fluid = tank.fluid
+            if (fluid == null || fluid.amount <= 0) continue
+            var matched = -1
+            for (i in ingredients.indices)
+            {
+                if (!ingredients[i].acceptsFluid(fluid)) continue
+                if (matched != -1) return null
+                matched = i
+            }
+            if (matched != -1)
+                available[matched] += fluid.amount.toLong()
+        }
+        return divideByRequirements(ingredients.size, available,
+                                    { ingredients[it].amount }, { ingredients[it].isNonConsumable })
+    }
+
+    private inline fun divideByRequirements(size: Int, available: LongArray,
+                                            amount: (Int) -> Int, isNonConsumable: (Int) -> Boolean): Long
+    {
+        var multiplier = Long.MAX_VALUE
+        for (i in 0 until size)
+        {
+            val required = amount(i).toLong()
+            if (isNonConsumable(i))
+            {
+                if (available[i] < required) return 0
+            }
+            else if (required > 0)
+            {
+                multiplier = min(multiplier, available[i] / required)
+            }
+        }
+        return multiplier
+    }
+
+    private fun limitByItemOutputs(itemOutputs: List<ItemStack>, outputs: IItemHandlerModifiable, parallel: Long): Long?
+    {
+        if (itemOutputs.isEmpty()) return parallel
+
+        val size = itemOutputs.size
+        for (i in 0 until size)
+        {
+            for (j in i + 1 until size)
+            {
+                // Duplicated outputs share the free space of same slots.
+                if (ItemHandlerHelper.canItemStacksStack(itemOutputs[i], itemOutputs[j])) return null
+            }
+        }
+
+        val partialSpaces = LongArray(size)
+        var emptySlots = 0L
+        var emptySlotLimit = Int.MAX_VALUE
+        for (slot in 0 until outputs.slots)
+        {
+            val stack = outputs.getStackInSlot(slot)
+            val slotLimit = outputs.getSlotLimit(slot)
+            if (stack.isEmpty)
+            {
+                // Filtered or locked slots may reject the outputs, only count empty slots which accept all of them.
+                if (!acceptsAllItems(outputs, slot, itemOutputs)) continue
+                emptySlots++
+                emptySlotLimit = min(emptySlotLimit, slotLimit)
+                continue
+            }
+            for (i in 0 until size)
+            {
+                val output = itemOutputs[i]
+                if (ItemHandlerHelper.canItemStacksStack(output, stack))
+                {
+                    val limit = min(slotLimit, stack.maxStackSize)
+                    partialSpaces[i] += (limit - stack.count).coerceAtLeast(0).toLong()
+                    break
+                }
+            }
+        }
+
+        return bisect(parallel) { multiplier ->
+            var neededSlots = 0L
+            for (i in 0 until size)
+            {
+                val output = itemOutputs[i]
+                val remaining = multiplier * output.count - partialSpaces[i]
+                if (remaining <= 0) continue
+                val perSlot = min(emptySlotLimit, output.maxStackSize).toLong()
+                if (perSlot <= 0) return@bisect false
+                neededSlots += (remaining + perSlot - 1) / perSlot
+                if (neededSlots > emptySlots) return@bisect false
+            }
+            true
+        }
+    }
+
+    private fun limitByFluidOutputs(fluidOutputs: List<FluidStack>, tanks: IMultipleTankHandler, parallel: Long): Long?
+    {
+        if (fluidOutputs.isEmpty()) return parallel
+
+        val size = fluidOutputs.size
+        for (i in 0 until size)
+        {
+            for (j in i + 1 until size)
+            {
+                if (fluidOutputs[i].isFluidEqual(fluidOutputs[j])) return null
+            }
+        }
+
+        val allowSameFluidFill = tanks.allowSameFluidFill()
+        val partialSpaces = LongArray(size)
+        val hasPartialTank = BooleanArray(size)
+        var emptyTanks = 0L
+        var emptyTankCapacity = Int.MAX_VALUE
+        for (tank in tanks.fluidTanks)
+        {
+            val fluid = tank.fluid
+            if (fluid == null || fluid.amount <= 0)
+            {
+                if (!acceptsAllFluids(tank, fluidOutputs)) continue
+                emptyTanks++
+                emptyTankCapacity = min(emptyTankCapacity, tank.capacity)
+                continue
+            }
+            for (i in 0 until size)
+            {
+                if (fluidOutputs[i].isFluidEqual(fluid))
+                {
+                    partialSpaces[i] += (tank.capacity - fluid.amount).coerceAtLeast(0).toLong()
+                    hasPartialTank[i] = true
+                    break
+                }
+            }
+        }
+
+        return bisect(parallel) { multiplier ->
+            var neededTanks = 0L
+            for (i in 0 until size)
+            {
+                val remaining = multiplier * fluidOutputs[i].amount - partialSpaces[i]
+                if (remaining <= 0) continue
+                // The fluid can only be filled into the tank which already has it.
+                if (!allowSameFluidFill && hasPartialTank[i]) return@bisect false
+                val perTank = emptyTankCapacity.toLong()
+                if (perTank <= 0) return@bisect false
+                neededTanks += if (allowSameFluidFill) (remaining + perTank - 1) / perTank
+                               else if (remaining <= perTank) 1L else return@bisect false
+                if (neededTanks > emptyTanks) return@bisect false
+            }
+            true
+        }
+    }
+
+    private fun acceptsAllItems(outputs: IItemHandlerModifiable, slot: Int, itemOutputs: List<ItemStack>): Boolean
+    {
+        for (output in itemOutputs)
+        {
+            if (outputs.insertItem(slot, output, true).count >= output.count) return false
+        }
+        return true
+    }
+
+    private fun acceptsAllFluids(tank: IFluidTank, fluidOutputs: List<FluidStack>): Boolean
+    {
+        for (output in fluidOutputs)
+        {
+            if (tank.fill(output, false) <= 0) return false
+        }
+        return true
+    }
+
+    /**
+     * Find the maximum multiplier in `[0, upper]` which satisfies [fits], [fits] must be monotonic.
+     */
+    private inline fun bisect(upper: Long, fits: (Long) -> Boolean): Long
+    {
+        if (fits(upper)) return upper
+        var low = 0L
+        var high = upper
+        while (low < high)
+        {
+            val middle = (low + high + 1) ushr 1
+            if (fits(middle)) low = middle else high = middle - 1
+        }
+        return low
+    }
+
+}
@@ -20,10 +20,12 @@ import net.minecraft.client.renderer.texture.TextureAtlasSprite
 import net.minecraft.client.resources.I18n
 import net.minecraft.entity.player.EntityPlayer
 import net.minecraft.item.ItemStack
+import net.minecraft.tileentity.TileEntity
 import net.minecraft.util.BlockRenderLayer
 import net.minecraft.util.EnumFacing
 import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
+import net.minecraft.world.chunk.Chunk
 import net.minecraftforge.common.capabilities.Capability
 import net.minecraftforge.fluids.FluidStack
 import net.minecraftforge.fluids.FluidTank
@@ -39,6 +41,8 @@ abstract class MetaTileEntityDelegator(metaTileEntityId: ResourceLocation,
                                        protected val baseColor: Int) : MetaTileEntity(metaTileEntityId), Delegator
 {
 
+    private val neighborCache = arrayOfNulls<CachedNeighbor>(EnumFacing.VALUES.size)
+
     override fun <T> getCapability(capability: Capability<T?>, side: EnumFacing?): T?
     {
         val delegatedCapability = getDelegatedCapability<T?>(capability, side)
@@ -60,9 +64,56 @@ abstract class MetaTileEntityDelegator(metaTileEntityId: ResourceLocation,
         if (capability == null || !capabilityFilter(capability) || side == null) return null
         val delegatingFacing = getDelegatingFacing(side)
         if (delegatingFacing == null) return null
-        val te = world.getTileEntity(pos.offset(delegatingFacing))
-        if (te == null || (te is MetaTileEntityHolder && te.getMetaTileEntity() is Delegator)) return null
-        return te.getCapability(capability, delegatingFacing.opposite)
+        val neighbor = getNeighbor(delegatingFacing) ?: return null
+        // Capabilities are not cached, handlers of the neighbor can be replaced without any block update, e.g. the
+        // combined handler of double chests.
+        return neighbor.tileEntity.getCapability(capability, delegatingFacing.opposite)
+    }
+
+    /**
+     * Get the cached neighbor at [facing], or resolve it from the world if it is not cached or outdated. Returns `null`
+     * if there is no neighbor or the neighbor is another delegator.
+     */
+    private fun getNeighbor(facing: EnumFacing): CachedNeighbor?
+    {
+        val index = facing.index
+        val cached = neighborCache[index]
+        if (cached != null && cached.isValid()) return cached
+
+        val neighborPos = pos.offset(facing)
+        val te = world.getTileEntity(neighborPos)
+        if (te == null || (te is MetaTileEntityHolder && te.getMetaTileEntity() is Delegator))
+        {
+            neighborCache[index] = null
+            return null
+        }
+        return CachedNeighbor(te, world.getChunk(neighborPos)).also { neighborCache[index] = it }
+    }
+
+    /**
+     * Drop all cached neighbors, should be called when the delegating facings are changed.
+     */
+    protected fun invalidateNeighborCache()
+    {
+        neighborCache.fill(null)
+    }
+
+    override fun onNeighborChanged()
+    {
+        super.onNeighborChanged()
+        invalidateNeighborCache()
+    }
+
+    override fun onUnload()
+    {
+        super.onUnload()
+        invalidateNeighborCache()
+    }
+
+    override fun setFrontFacing(frontFacing: EnumFacing)
+    {
+        super.setFrontFacing(frontFacing)
+        invalidateNeighborCache()
     }
 
     override fun renderMetaTileEntity(renderState: CCRenderState?,
@@ -103,6 +154,17 @@ abstract class MetaTileEntityDelegator(metaTileEntityId: ResourceLocation,
     @Deprecated("Deprecated in Java")
     override fun createUI(entityPlayer: EntityPlayer?): ModularUI? = null
 
+    /**
+     * The resolved neighbor tile entity of a delegating facing. The neighbor is outdated when it is invalidated or its
+     * chunk is unloaded, neighbor changes of delegator are handled by [onNeighborChanged].
+     */
+    private class CachedNeighbor(val tileEntity: TileEntity, private val chunk: Chunk)
+    {
+
+        fun isValid() = !tileEntity.isInvalid && chunk.isLoaded
+
+    }
+
     object DefaultCapabilities
     {
 
@@ -66,12 +66,15 @@ open class PseudoMultiSteamMachineMetaTileEntity(metaTileEntityId: ResourceLocat
         if (world == null || world.isRemote)
         {
             targetBlockState = null
-            return
         }
-        // The traditional "back" side of this type of MetaTileEntity is actually treated
-        // as its front for recipe purposes, making wrench movement feel as though you are
-        // holding onto or manipulating the back side to point the MetaTileEntity.
-        targetBlockState = world.getBlockState(pos.offset(getFrontFacing().opposite))
+        else
+        {
+            // The traditional "back" side of this type of MetaTileEntity is actually treated
+            // as its front for recipe purposes, making wrench movement feel as though you are
+            // holding onto or manipulating the back side to point the MetaTileEntity.
+            targetBlockState = world.getBlockState(pos.offset(getFrontFacing().opposite))
+        }
+        (workableHandler as? PseudoMultiSteamRecipeLogic)?.onTargetBlockChanged()
     }
 
 }
@@ -0,0 +1,29 @@
+package gregtechlite.gtlitecore.api.metatileentity.multiblock
+
+/**
+ * Marker interface of multiblock controllers which opt in the incremental structure check.
+ *
+ * When the structure of a formed controller is matched, the chunks which touched by the match are recorded to
+ * [gregtechlite.gtlitecore.api.pattern.StructureChangeTracker], and the full pattern check of the controller will be
+ * skipped until a block change event lands inside these chunks, or [FULL_CHECK_INTERVAL] checks are skipped. The
+ * formed state and ability lists of the controller
+ * are kept in the meantime.
+ *
+ * Only used for controllers whose pattern predicates have no side effects, the predicates will not be called when the
+ * check is skipped.
+ */
+interface IncrementalStructureCheck
+{
+
+    companion object
+    {
+
+        /**
+         * Amount of skipped checks before a full check is forced, blocks which are changed without neighbor notifies
+         * (e.g. by flag 2 of `setBlockState`) or tile entities which are replaced in place are detected by it.
+         */
+        const val FULL_CHECK_INTERVAL = 30
+
+    }
+
+}
@@ -6,6 +6,7 @@ import gregtech.api.capability.IControllable
 import gregtech.api.capability.IEnergyContainer
 import gregtech.api.capability.IWorkable
 import gregtech.api.capability.impl.EnergyContainerHandler
+import gregtech.api.metatileentity.MetaTileEntity
 import gregtech.api.metatileentity.multiblock.IMultiblockPart
 import gregtech.api.metatileentity.multiblock.MultiblockWithDisplayBase
 import gregtech.api.pattern.BlockPattern
@@ -18,6 +19,7 @@ import net.minecraft.nbt.NBTTagCompound
 import net.minecraft.network.PacketBuffer
 import net.minecraft.util.EnumFacing
 import net.minecraft.util.ResourceLocation
+import net.minecraft.util.math.BlockPos
 import net.minecraftforge.common.capabilities.Capability
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
@@ -30,6 +32,14 @@ abstract class ModuleMultiblockBase(metaTileEntityId: ResourceLocation,
 {
 
     override var moduleProvider: ModuleProvider? = null
+        set(value)
+        {
+            field = value
+            if (value != null) providerPos = (value as MetaTileEntity).pos
+        }
+
+    // The position of the last attached provider, the module is attached to it again when its structure is formed.
+    private var providerPos: BlockPos? = null
 
     override val displayCountName: String
         get() = "$metaName.display_count"
@@ -70,24 +80,23 @@ abstract class ModuleMultiblockBase(metaTileEntityId: ResourceLocation,
     {
         super.formStructure(context)
         initializeAbilities()
+        if (moduleProvider == null)
+            providerPos?.let { ModuleProvider.getModuleProvider(world, it)?.attachModule(this) }
     }
 
     protected abstract fun initializeAbilities()
 
-    override fun checkStructurePattern()
+    override fun invalidateStructure()
     {
-        super.checkStructurePattern()
-        moduleProvider?.casingTier?.also {
-            if (it >= minCasingTier)
-            {
-                super.checkStructurePattern()
-            }
-        }
+        super.invalidateStructure()
+        moduleProvider?.detachModule(this)
+        moduleProvider = null
     }
 
-    override fun invalidateStructure()
+    override fun onRemoval()
     {
-        super.invalidateStructure()
+        super.onRemoval()
+        moduleProvider?.detachModule(this)
         moduleProvider = null
     }
 
@@ -95,20 +104,20 @@ abstract class ModuleMultiblockBase(metaTileEntityId: ResourceLocation,
 
     override fun updateFormedValid()
     {
-        if (offsetTimer % SECOND == 0L && moduleProvider != null)
+        if (moduleProvider == null)
         {
-            if (energyContainer.energyCapacity != energyContainer.energyStored
-                && moduleProvider!!.subEnergyContainer
-                    !!.energyStored > energyConsumed * SECOND
-            )
-            {
-                val simulate = energyContainer.energyCapacity - energyContainer.energyStored
-                energyContainer.addEnergy(simulate)
-            }
+            isWorkingEnabled = false
         }
-        else if (moduleProvider == null)
+    }
+
+    override fun receiveEnergy(container: IEnergyContainer)
+    {
+        if (!isStructureFormed) return
+        if (energyContainer.energyCapacity != energyContainer.energyStored
+            && container.energyStored > energyConsumed * SECOND)
         {
-            isWorkingEnabled = false
+            val simulate = energyContainer.energyCapacity - energyContainer.energyStored
+            energyContainer.addEnergy(simulate)
         }
     }
 
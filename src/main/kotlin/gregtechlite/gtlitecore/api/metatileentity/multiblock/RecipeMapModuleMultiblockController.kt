@@ -3,10 +3,12 @@ package gregtechlite.gtlitecore.api.metatileentity.multiblock
 import com.cleanroommc.modularui.widgets.ButtonWidget
 import gregtech.api.capability.IEnergyContainer
 import gregtech.api.capability.impl.EnergyContainerHandler
+import gregtech.api.metatileentity.MetaTileEntity
 import gregtech.api.metatileentity.multiblock.IMultiblockPart
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController
 import gregtech.api.metatileentity.multiblock.ui.MultiblockUIFactory
 import gregtech.api.pattern.BlockPattern
+import gregtech.api.pattern.PatternMatchContext
 import gregtech.api.recipes.RecipeMap
 import gregtech.api.util.KeyUtil
 import gregtech.client.renderer.ICubeRenderer
@@ -15,6 +17,7 @@ import gregtechlite.gtlitecore.api.capability.ModuleProvider
 import gregtechlite.gtlitecore.api.capability.ModuleReceiver
 import gregtechlite.gtlitecore.api.gui.GTLiteMuiTextures
 import net.minecraft.util.ResourceLocation
+import net.minecraft.util.math.BlockPos
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
 import kotlin.math.pow
@@ -32,6 +35,15 @@ abstract class RecipeMapModuleMultiblockController(metaTileEntityId: ResourceLoc
 {
 
     override var moduleProvider: ModuleProvider? = null
+        set(value)
+        {
+            field = value
+            if (value != null) providerPos = (value as MetaTileEntity).pos
+        }
+
+    // The position of the last attached provider, the module is attached to it again when its structure is formed.
+    private var providerPos: BlockPos? = null
+
     override val displayCountName: String
         get() = "$metaName.display_count"
 
@@ -47,17 +59,34 @@ abstract class RecipeMapModuleMultiblockController(metaTileEntityId: ResourceLoc
 
     override fun checkStructurePattern()
     {
-        if (moduleProvider?.casingTier?.let { it >= minCasingTier } == true)
+        val provider = moduleProvider
+        // Detached modules check their structure on their own, so they can be attached again when they are formed.
+        if (provider?.let { it.casingTier >= minCasingTier } ?: (providerPos != null))
         {
             super.checkStructurePattern()
         }
     }
 
+    override fun formStructure(context: PatternMatchContext)
+    {
+        super.formStructure(context)
+        if (moduleProvider == null)
+            providerPos?.let { ModuleProvider.getModuleProvider(world, it)?.attachModule(this) }
+    }
+
     abstract override fun initializeAbilities()
 
     override fun invalidateStructure()
     {
         super.invalidateStructure()
+        moduleProvider?.detachModule(this)
+        moduleProvider = null
+    }
+
+    override fun onRemoval()
+    {
+        super.onRemoval()
+        moduleProvider?.detachModule(this)
         moduleProvider = null
     }
 
@@ -85,21 +114,15 @@ abstract class RecipeMapModuleMultiblockController(metaTileEntityId: ResourceLoc
         this.recipeMapWorkable.isWorkingEnabled = true
     }
 
-    override fun updateFormedValid()
+    override fun receiveEnergy(container: IEnergyContainer)
     {
-        super.updateFormedValid()
-        if (offsetTimer % SECOND == 0L)
+        if (!isStructureFormed) return
+        if (this.energyContainer.energyCapacity != this.energyContainer.energyStored
+            && container.energyStored > this.energyConsumed * SECOND)
         {
-            moduleProvider?.also {
-                if (this.energyContainer.energyCapacity != this.energyContainer.energyStored
-                    && it.subEnergyContainer!!.energyStored > this.energyConsumed * SECOND
-                )
-                {
-                    val simulate = this.energyContainer.energyCapacity - this.energyContainer.energyStored
-                    it.subEnergyContainer!!.removeEnergy(simulate)
-                    this.energyContainer.addEnergy(simulate)
-                }
-            }
+            val simulate = this.energyContainer.energyCapacity - this.energyContainer.energyStored
+            container.removeEnergy(simulate)
+            this.energyContainer.addEnergy(simulate)
         }
     }
 
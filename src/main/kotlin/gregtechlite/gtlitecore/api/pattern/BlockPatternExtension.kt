@@ -7,6 +7,13 @@ interface BlockPatternExtension
 
     val previewPages: Int
 
+    val previewCache: BlockPatterns.PreviewCache
+
+    /**
+     * All blocks which can be placed in preview pages, gathered from candidates of predicates.
+     */
+    val previewParts: List<BlockInfo>
+
     fun getPreview(repetition: IntArray, candidateIndex: Int): Array<Array<Array<BlockInfo>>>
 
 }
\ No newline at end of file
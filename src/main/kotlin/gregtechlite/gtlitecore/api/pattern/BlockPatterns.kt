@@ -2,82 +2,130 @@ package gregtechlite.gtlitecore.api.pattern
 
 import gregtech.api.pattern.BlockPattern
 import gregtech.api.pattern.MultiblockShapeInfo
-import java.util.*
+import gregtech.api.util.BlockInfo
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap
 
 object BlockPatterns
 {
 
+    /**
+     * Maximum amount of built preview pages which are cached for each pattern.
+     */
+    const val PREVIEW_CACHE_SIZE = 32
+
+    /**
+     * Get all preview pages of [blockPattern]. The pages are built on demand when they are accessed, every combination
+     * of aisle repetitions is a page whose candidate index is the page index, the pages after them use the maximum
+     * repetitions and the remaining candidate indexes.
+     */
     fun getMatchingShapes(blockPattern: BlockPattern): List<MultiblockShapeInfo>
     {
-        val aisleRepetitions = blockPattern.aisleRepetitions
         val maxPages = (blockPattern as BlockPatternExtension).previewPages
-        val pages = repetitionDFS(blockPattern, mutableListOf(), aisleRepetitions, Stack())
-        if (pages.size < maxPages)
-        {
-            val repetition = IntArray(aisleRepetitions.size)
-            for (i in repetition.indices)
-            {
-                repetition[i] = aisleRepetitions[i]!![1]
-            }
-            for (i in pages.size ..< maxPages)
-            {
-                pages.add(MultiblockShapeInfo(blockPattern.getPreview(repetition, i)))
-            }
-        }
-        return pages
+        val repetitions = getRepetitionCount(blockPattern.aisleRepetitions)
+        return PreviewPageList(blockPattern, maxOf(repetitions, maxPages), -1)
     }
 
+    /**
+     * Get preview pages of every combination of aisle repetitions with the fixed [index] of candidates, the pages are
+     * built on demand when they are accessed.
+     */
     fun getMatchingShape(blockPattern: BlockPattern, index: Int): List<MultiblockShapeInfo>
     {
-        val aisleRepetitions = blockPattern.aisleRepetitions
-        return repetitionDFS(blockPattern, mutableListOf(), aisleRepetitions, Stack(), index)
+        return PreviewPageList(blockPattern, getRepetitionCount(blockPattern.aisleRepetitions), index)
     }
 
-    private fun repetitionDFS(pattern: BlockPattern,
-                              pages: MutableList<MultiblockShapeInfo>,
-                              aisleRepetitions: Array<IntArray>,
-                              repetitionStack: Stack<Int>,
-                              index: Int): MutableList<MultiblockShapeInfo>
+    /**
+     * Get all blocks which can be placed in [shapes] without building any page, returns `null` if [shapes] are not
+     * preview pages of a block pattern.
+     */
+    fun getPreviewParts(shapes: List<MultiblockShapeInfo>): List<BlockInfo>?
     {
-        if (repetitionStack.size == aisleRepetitions.size)
+        return ((shapes as? PreviewPageList)?.pattern as? BlockPatternExtension)?.previewParts
+    }
+
+    private fun getRepetitionCount(aisleRepetitions: Array<IntArray>): Int
+    {
+        var count = 1L
+        for (repetition in aisleRepetitions)
+        {
+            count *= (repetition[1] - repetition[0] + 1).coerceAtLeast(1)
+            if (count >= Int.MAX_VALUE) return Int.MAX_VALUE
+        }
+        return count.toInt()
+    }
+
+    /**
+     * Decode the repetition of each aisle from [ordinal], the order is same as a depth-first enumeration whose first
+     * aisle is the outermost one. Ordinals out of the repetition count are clamped to the maximum repetitions.
+     */
+    private fun decodeRepetition(aisleRepetitions: Array<IntArray>, ordinal: Int, count: Int): IntArray
+    {
+        val repetition = IntArray(aisleRepetitions.size)
+        if (ordinal >= count)
         {
-            val repetition = IntArray(repetitionStack.size)
-            repetitionStack.forEachIndexed { index, i -> repetition[index] = i }
-            pages.add(MultiblockShapeInfo((pattern as BlockPatternExtension).getPreview(repetition, index)))
+            for (i in repetition.indices)
+                repetition[i] = aisleRepetitions[i][1]
+            return repetition
         }
-        else
+        var remaining = ordinal
+        for (i in repetition.indices.reversed())
         {
-            for (i in aisleRepetitions[repetitionStack.size][0] .. aisleRepetitions[repetitionStack.size][1])
+            val range = (aisleRepetitions[i][1] - aisleRepetitions[i][0] + 1).coerceAtLeast(1)
+            repetition[i] = aisleRepetitions[i][0] + remaining % range
+            remaining /= range
+        }
+        return repetition
+    }
+
+    private class PreviewPageList(val pattern: BlockPattern,
+                                  override val size: Int,
+                                  private val candidateIndex: Int) : AbstractList<MultiblockShapeInfo>(), RandomAccess
+    {
+
+        private val aisleRepetitions = pattern.aisleRepetitions
+
+        private val repetitionCount = getRepetitionCount(aisleRepetitions)
+
+        override fun get(index: Int): MultiblockShapeInfo
+        {
+            if (index !in 0 ..< size)
+                throw IndexOutOfBoundsException("Index: $index, Size: $size")
+            val ordinal = index.coerceAtMost(repetitionCount)
+            val candidate = if (candidateIndex >= 0) candidateIndex else index
+            val extension = pattern as BlockPatternExtension
+            return extension.previewCache.getOrBuild(ordinal, candidate)
             {
-                repetitionStack.push(i)
-                repetitionDFS(pattern, pages, aisleRepetitions, repetitionStack, index)
-                repetitionStack.pop()
+                MultiblockShapeInfo(extension.getPreview(decodeRepetition(aisleRepetitions, ordinal, repetitionCount),
+                                                         candidate))
             }
         }
-        return pages
+
     }
 
-    private fun repetitionDFS(pattern: BlockPattern,
-                              pages: MutableList<MultiblockShapeInfo>,
-                              aisleRepetitions: Array<IntArray>,
-                              repetitionStack: Stack<Int>): MutableList<MultiblockShapeInfo>
+    /**
+     * Bounded cache of built preview pages, keyed by the repetition ordinal and the candidate index of pages. The least
+     * recently accessed page is dropped when the cache is full.
+     */
+    class PreviewCache
     {
-        if (repetitionStack.size == aisleRepetitions.size)
+
+        private val pages = Long2ObjectLinkedOpenHashMap<MultiblockShapeInfo>()
+
+        inline fun getOrBuild(repetition: Int, candidateIndex: Int, builder: () -> MultiblockShapeInfo): MultiblockShapeInfo
         {
-            val repetition = IntArray(repetitionStack.size)
-            repetitionStack.forEachIndexed { index, i -> repetition[index] = i }
-            pages.add(MultiblockShapeInfo((pattern as BlockPatternExtension).getPreview(repetition, pages.size)))
+            val key = (repetition.toLong() shl 32) or (candidateIndex.toLong() and 0xFFFFFFFFL)
+            return get(key) ?: builder().also { put(key, it) }
         }
-        else
+
+        fun get(key: Long): MultiblockShapeInfo? = pages.getAndMoveToLast(key)
+
+        fun put(key: Long, page: MultiblockShapeInfo)
         {
-            for (i in aisleRepetitions[repetitionStack.size][0] .. aisleRepetitions[repetitionStack.size][1])
-            {
-                repetitionStack.push(i)
-                repetitionDFS(pattern, pages, aisleRepetitions, repetitionStack)
-                repetitionStack.pop()
-            }
+            pages.putAndMoveToLast(key, page)
+            while (pages.size > PREVIEW_CACHE_SIZE)
+                pages.removeFirst()
         }
-        return pages
+
     }
 
-}
\ No newline at end of file
+}
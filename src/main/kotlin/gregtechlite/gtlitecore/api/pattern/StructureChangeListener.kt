@@ -0,0 +1,19 @@
+package gregtechlite.gtlitecore.api.pattern
+
+import gregtechlite.gtlitecore.mixins.MixinExtension
+
+@MixinExtension
+interface StructureChangeListener
+{
+
+    /**
+     * Called when a block inside of the chunks which tracked by [StructureChangeTracker] is changed.
+     */
+    fun onStructureChanged()
+
+    /**
+     * Called when the listener is unloaded or removed, all chunks tracked by it should be untracked.
+     */
+    fun onStructureUnloaded()
+
+}
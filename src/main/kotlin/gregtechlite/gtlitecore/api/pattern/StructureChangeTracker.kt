@@ -0,0 +1,96 @@
+package gregtechlite.gtlitecore.api.pattern
+
+import gregtech.api.pattern.BlockPattern
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet
+import it.unimi.dsi.fastutil.longs.LongSet
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet
+import net.minecraft.util.math.BlockPos
+import net.minecraft.util.math.ChunkPos
+import net.minecraft.world.World
+
+/**
+ * Records the chunks touched by the last successful structure match of controllers, and notifies them when a block
+ * changed inside these chunks. All methods should be called on the logical server thread.
+ */
+object StructureChangeTracker
+{
+
+    /**
+     * Dimension -> Chunk -> Listeners.
+     */
+    private val listeners = Int2ObjectOpenHashMap<Long2ObjectOpenHashMap<MutableSet<StructureChangeListener>>>()
+
+    /**
+     * Collect the chunks of all positions which are cached by [pattern] after its last successful match, and the
+     * chunk of [controllerPos]. Returns an empty set if the pattern has no cached position.
+     */
+    fun getMatchedChunks(pattern: BlockPattern, controllerPos: BlockPos): LongSet
+    {
+        val chunks = LongOpenHashSet()
+        val iterator = pattern.cache.keys.iterator()
+        if (!iterator.hasNext()) return chunks
+
+        chunks.add(ChunkPos.asLong(controllerPos.x shr 4, controllerPos.z shr 4))
+        while (iterator.hasNext())
+        {
+            val pos = BlockPos.fromLong(iterator.nextLong())
+            chunks.add(ChunkPos.asLong(pos.x shr 4, pos.z shr 4))
+        }
+        return chunks
+    }
+
+    fun track(world: World, chunks: LongSet, listener: StructureChangeListener)
+    {
+        val dimensionListeners = listeners.computeIfAbsent(world.provider.dimension) { Long2ObjectOpenHashMap() }
+        val iterator = chunks.iterator()
+        while (iterator.hasNext())
+        {
+            dimensionListeners.computeIfAbsent(iterator.nextLong()) { ReferenceOpenHashSet() }.add(listener)
+        }
+    }
+
+    fun untrack(world: World, chunks: LongSet, listener: StructureChangeListener)
+    {
+        val dimensionListeners = listeners.get(world.provider.dimension) ?: return
+        val iterator = chunks.iterator()
+        while (iterator.hasNext())
+        {
+            val chunk = iterator.nextLong()
+            val chunkListeners = dimensionListeners.get(chunk) ?: continue
+            chunkListeners.remove(listener)
+            if (chunkListeners.isEmpty())
+                dimensionListeners.remove(chunk)
+        }
+    }
+
+    /**
+     * Notify all listeners which tracked the chunk of [pos] that their structures may be changed.
+     */
+    fun onBlockChanged(world: World, pos: BlockPos)
+    {
+        val dimensionListeners = listeners.get(world.provider.dimension) ?: return
+        val chunkListeners = dimensionListeners.get(ChunkPos.asLong(pos.x shr 4, pos.z shr 4)) ?: return
+        for (listener in chunkListeners)
+            listener.onStructureChanged()
+    }
+
+    /**
+     * Drop all listeners of the unloaded chunk, they will be notified before dropping, so the next structure check of
+     * them is a full check and tracks the chunk again after it is reloaded.
+     */
+    fun onChunkUnload(world: World, chunkX: Int, chunkZ: Int)
+    {
+        val dimensionListeners = listeners.get(world.provider.dimension) ?: return
+        val chunkListeners = dimensionListeners.remove(ChunkPos.asLong(chunkX, chunkZ)) ?: return
+        for (listener in chunkListeners)
+            listener.onStructureChanged()
+    }
+
+    fun onWorldUnload(world: World)
+    {
+        listeners.remove(world.provider.dimension)
+    }
+
+}
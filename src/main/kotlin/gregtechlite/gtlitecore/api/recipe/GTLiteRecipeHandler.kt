@@ -20,6 +20,8 @@ import gregtech.api.GTValues.ZPM
 import gregtech.api.items.metaitem.MetaItem
 import gregtech.api.metatileentity.MetaTileEntity
 import gregtech.api.recipes.GTRecipeHandler
+import gregtech.api.recipes.Recipe
+import gregtech.api.recipes.RecipeMap
 import gregtech.api.recipes.RecipeMaps.ASSEMBLER_RECIPES
 import gregtech.api.recipes.RecipeMaps.CHEMICAL_RECIPES
 import gregtech.api.recipes.RecipeMaps.LARGE_CHEMICAL_RECIPES
@@ -28,7 +30,9 @@ import gregtech.api.recipes.ingredients.GTRecipeInput
 import gregtech.api.recipes.ingredients.GTRecipeItemInput
 import gregtech.api.recipes.ingredients.GTRecipeOreInput
 import gregtech.api.unification.material.Materials
+import gregtech.common.ConfigHolder
 import gregtech.common.metatileentities.MetaTileEntities
+import gregtechlite.gtlitecore.api.GTLiteLog
 import gregtechlite.gtlitecore.api.SECOND
 import gregtechlite.gtlitecore.api.extension.EUt
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeHandler.getGTRecipeInput
@@ -41,6 +45,9 @@ import net.minecraftforge.fluids.FluidStack
 object GTLiteRecipeHandler
 {
 
+    private val CHEMICAL_MAPS = listOf<RecipeMap<*>>(CHEMICAL_RECIPES, LARGE_CHEMICAL_RECIPES)
+    private val MIXER_MAPS = listOf<RecipeMap<*>>(MIXER_RECIPES, LARGE_MIXER_RECIPES)
+
     @JvmStatic
     fun removeChemicalRecipes(itemInputs: Array<ItemStack>, fluidInputs: Array<FluidStack>)
     {
@@ -62,6 +69,13 @@ object GTLiteRecipeHandler
         GTRecipeHandler.removeRecipesByInputs(LARGE_CHEMICAL_RECIPES, arrayOfNulls<ItemStack>(0), fluidInputs)
     }
 
+    /**
+     * Remove recipes of all [signatures] from Chemical Reactor and Large Chemical Reactor.
+     */
+    @JvmStatic
+    fun removeChemicalRecipes(signatures: List<InputSignature>): Map<RecipeMap<*>, List<Recipe>>
+        = removeRecipesByInputs(CHEMICAL_MAPS, signatures)
+
     @JvmStatic
     fun removeMixerRecipes(itemInputs: Array<ItemStack>, fluidInputs: Array<FluidStack>)
     {
@@ -83,6 +97,51 @@ object GTLiteRecipeHandler
         GTRecipeHandler.removeRecipesByInputs(LARGE_MIXER_RECIPES, arrayOfNulls<ItemStack>(0), fluidInputs)
     }
 
+    /**
+     * Remove recipes of all [signatures] from Mixer and Large Mixer.
+     */
+    @JvmStatic
+    fun removeMixerRecipes(signatures: List<InputSignature>): Map<RecipeMap<*>, List<Recipe>>
+        = removeRecipesByInputs(MIXER_MAPS, signatures)
+
+    /**
+     * Remove recipes matched by [signatures] from every map of [recipeMaps].
+     *
+     * Each signature is resolved by the recipe lookup of the map like [GTRecipeHandler.removeRecipesByInputs], so the
+     * removed recipe is the one which a machine would run with these inputs. Signatures which matched no recipes of a
+     * map are logged in debug mode.
+     *
+     * @return Removed recipes of each map, maps which no recipes are removed from are absent.
+     */
+    @JvmStatic
+    fun removeRecipesByInputs(recipeMaps: Collection<RecipeMap<*>>,
+                              signatures: List<InputSignature>): Map<RecipeMap<*>, List<Recipe>>
+    {
+        val removedRecipes = linkedMapOf<RecipeMap<*>, List<Recipe>>()
+        if (signatures.isEmpty()) return removedRecipes
+
+        for (recipeMap in recipeMaps)
+        {
+            val removed = mutableListOf<Recipe>()
+            for (signature in signatures)
+            {
+                val recipe = recipeMap.findRecipe(Long.MAX_VALUE, signature.itemInputList, signature.fluidInputList,
+                                                  true)
+                if (recipe == null || !recipeMap.removeRecipe(recipe))
+                {
+                    if (ConfigHolder.misc.debug)
+                        GTLiteLog.logger.info("Failed to remove recipe from RecipeMap {} with inputs {}",
+                                              recipeMap.unlocalizedName, signature)
+                    continue
+                }
+                removed.add(recipe)
+            }
+            if (removed.isNotEmpty())
+                removedRecipes[recipeMap] = removed
+        }
+        return removedRecipes
+    }
+
     /**
      * @param tier The tier of io bus/hatch, used voltage tier as default.
      * @param input The input bus/hatch mte.
@@ -309,4 +368,22 @@ object GTLiteRecipeHandler
         else -> 1
     }
 
+    /**
+     * Input signature of recipes which should be removed by [removeRecipesByInputs].
+     */
+    class InputSignature(itemInputs: Array<ItemStack>, fluidInputs: Array<FluidStack>)
+    {
+
+        val itemInputList: List<ItemStack> = itemInputs.toList()
+        val fluidInputList: List<FluidStack> = fluidInputs.toList()
+
+        override fun toString(): String
+        {
+            val items = itemInputList.joinToString { "${it.count}x ${it.displayName}" }
+            val fluids = fluidInputList.joinToString { "${it.amount}x ${it.unlocalizedName}" }
+            return "[$items] [$fluids]"
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -1,58 +1,47 @@
 package gregtechlite.gtlitecore.api.recipe.backend
 
+import gregtech.api.capability.IMultipleTankHandler
 import gregtech.api.unification.material.Materials
-import gregtechlite.gtlitecore.GTLiteMod
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.CVD_RECIPES
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.LASER_CVD_RECIPES
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.PLASMA_CVD_RECIPES
+import gregtechlite.gtlitecore.api.recipe.map.MirroredRecipeMap
+import gregtechlite.gtlitecore.api.recipe.map.MirroredRecipeMap.MirrorCondition
+import net.minecraft.item.ItemStack
+import net.minecraftforge.fluids.FluidStack
+import net.minecraftforge.items.IItemHandlerModifiable
 
 object CVDRecipeBackend
 {
 
+    /**
+     * Required amount of laser-induced gas, which is not consumed by Laser-Induced CVD recipes.
+     */
+    private const val LASER_INDUCED_GAS_AMOUNT = 16000
+
     fun init()
     {
-        CVD_RECIPES.onRecipeBuild(GTLiteMod.id("advanced_cvd_copy")) { recipeBuilder ->
-
-            // Laser-Induced CVD recipes required laser-induced gas for protective and ensure transmissive correct.
-            for (laserInducedGas in arrayOf(
-                Materials.Helium.getFluid(16000),
-                Materials.Neon.getFluid(16000),
-                Materials.Argon.getFluid(16000),
-                Materials.Krypton.getFluid(16000),
-                Materials.Xenon.getFluid(16000)))
-            {
-                LASER_CVD_RECIPES.recipeBuilder()
-                    .inputs(*recipeBuilder.inputs.toTypedArray())
-                    .fluidInputs(recipeBuilder.fluidInputs)
-                    .notConsumable(laserInducedGas)
-                    .outputs(recipeBuilder.outputs)
-                    .chancedOutputs(recipeBuilder.chancedOutputs)
-                    .fluidOutputs(recipeBuilder.fluidOutputs)
-                    .chancedFluidOutputs(recipeBuilder.chancedFluidOutputs)
-                    .cleanroom(recipeBuilder.cleanroom)
-                    .EUt(recipeBuilder.eUt)
-                    .duration(recipeBuilder.duration)
-                    .temperature(recipeBuilder.getTemperature())
-                    .hidden()
-                    .buildAndRegister()
-            }
-
-            // Plasma-enhanced CVD recipes.
-            PLASMA_CVD_RECIPES.recipeBuilder()
-                .inputs(*recipeBuilder.inputs.toTypedArray())
-                .fluidInputs(recipeBuilder.fluidInputs)
-                .outputs(recipeBuilder.outputs)
-                .chancedOutputs(recipeBuilder.chancedOutputs)
-                .fluidOutputs(recipeBuilder.fluidOutputs)
-                .chancedFluidOutputs(recipeBuilder.chancedFluidOutputs)
-                .cleanroom(recipeBuilder.cleanroom)
-                .EUt(recipeBuilder.eUt)
-                .duration(recipeBuilder.duration)
-                .temperature(recipeBuilder.getTemperature())
-                .hidden()
-                .buildAndRegister()
-        }
+        // Laser-Induced CVD recipes required laser-induced gas for protective and ensure transmissive correct.
+        val laserInducedGases = arrayOf(Materials.Helium.fluid,
+                                        Materials.Neon.fluid,
+                                        Materials.Argon.fluid,
+                                        Materials.Krypton.fluid,
+                                        Materials.Xenon.fluid)
+
+        fun isLaserInducedGas(fluid: FluidStack?) = fluid != null
+            && fluid.amount >= LASER_INDUCED_GAS_AMOUNT && fluid.fluid in laserInducedGases
+
+        (LASER_CVD_RECIPES as MirroredRecipeMap).addMirrorSource(CVD_RECIPES, object : MirrorCondition
+        {
+            override fun test(inputs: List<ItemStack?>, fluidInputs: List<FluidStack?>) =
+                fluidInputs.any(::isLaserInducedGas)
+
+            override fun test(inputs: IItemHandlerModifiable, fluidInputs: IMultipleTankHandler) =
+                fluidInputs.fluidTanks.any { isLaserInducedGas(it.fluid) }
+        })
 
+        // Plasma-enhanced CVD recipes.
+        (PLASMA_CVD_RECIPES as MirroredRecipeMap).addMirrorSource(CVD_RECIPES, MirrorCondition.ALWAYS)
     }
 
-}
\ No newline at end of file
+}
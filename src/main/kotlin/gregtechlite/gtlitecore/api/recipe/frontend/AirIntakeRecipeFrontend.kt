@@ -0,0 +1,42 @@
+package gregtechlite.gtlitecore.api.recipe.frontend
+
+import gregtech.api.recipes.RecipeMaps.GAS_COLLECTOR_RECIPES
+import gregtech.api.recipes.properties.impl.DimensionProperty
+import gregtech.api.unification.material.Materials.Air
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap
+import net.minecraftforge.fluids.Fluid
+
+object AirIntakeRecipeFrontend
+{
+
+    /**
+     * Used to cache air types of Air Intake Hatches, the key is the dimension id which whitelisted by recipes of Gas
+     * Collector, and the value is the first fluid output of the recipe.
+     */
+    val AIR_TYPES: Int2ObjectMap<Fluid> = Int2ObjectOpenHashMap()
+
+    /**
+     * Get the air type of [dimension], returns [Air] if there is no Gas Collector recipe for the dimension.
+     */
+    @JvmStatic
+    fun getAirType(dimension: Int): Fluid = AIR_TYPES.get(dimension) ?: Air.fluid
+
+    /**
+     * Should be called when all recipes are registered, e.g. when the mod loading is completed, so that recipes which
+     * are modified by scripts are also indexed.
+     */
+    fun init()
+    {
+        AIR_TYPES.clear()
+        for (recipe in GAS_COLLECTOR_RECIPES.recipeList)
+        {
+            val dimensions = recipe.getProperty(DimensionProperty.getInstance(), null) ?: continue
+            if (recipe.fluidOutputs.isEmpty()) continue
+            val fluid = recipe.fluidOutputs[0].fluid
+            for (dimension in dimensions.whiteListDimensions)
+                AIR_TYPES.put(dimension, fluid)
+        }
+    }
+
+}
@@ -66,7 +66,6 @@ import gregtech.api.unification.material.Materials.Tritium
 import gregtech.api.unification.material.Materials.UraniumHexafluoride
 import gregtech.api.unification.material.Materials.Water
 import gregtech.api.unification.material.Materials.Xenon
-import gregtechlite.gtlitecore.api.collection.openHashMapOf
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.Acetylene
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.BedrockSmoke
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.BoronTrifluoride
@@ -80,122 +79,144 @@ import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.Indene
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.MethylamineMixture
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.Resorcinol
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.SeaWater
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap
 import net.minecraftforge.fluids.FluidStack
 
 object SpacePumpRecipeFrontend
 {
 
     /**
-     * Used to cache all recipes of Space Pump Modules, the left part `(Integer, Integer)` stored
-     * the planet id and fluid id which will be set in configuration ui in the machine; the right part
-     * stored the fluid stack which the recipe will output.
-     *
-     * We used inner [Pair] but not Kotlin [Pair] to resolve some possible conflicts in mixed
-     * programming environment.
+     * Used to cache all recipes of Space Pump Modules, the key stored the planet id and fluid id which will be set in
+     * configuration ui in the machine (see [getKey]); the value stored the fluid stack which the recipe will output.
      */
-    val RECIPES: MutableMap<Pair<Int, Int>, FluidStack> = openHashMapOf()
+    val RECIPES: Long2ObjectMap<FluidStack> = Long2ObjectOpenHashMap()
+
+    /**
+     * Get the key of [RECIPES] which packed [planetId] to the high part and [fluidId] to the low part.
+     */
+    @JvmStatic
+    fun getKey(planetId: Int, fluidId: Int) = (planetId.toLong() shl 32) or (fluidId.toLong() and 0xFFFFFFFFL)
+
+    @JvmStatic
+    fun getPlanetId(key: Long) = (key ushr 32).toInt()
+
+    @JvmStatic
+    fun getFluidId(key: Long) = key.toInt()
+
+    /**
+     * Get the output fluid of the recipe with [planetId] and [fluidId], or `null` if there is no such recipe.
+     */
+    @JvmStatic
+    fun getRecipe(planetId: Int, fluidId: Int): FluidStack? = RECIPES.get(getKey(planetId, fluidId))
+
+    @JvmStatic
+    fun addRecipe(planetId: Int, fluidId: Int, fluid: FluidStack)
+    {
+        RECIPES.put(getKey(planetId, fluidId), fluid)
+    }
 
     fun init()
     {
         // T1
-        RECIPES[Pair(1, 1)] = Water.getFluid(3_600_000)
-        RECIPES[Pair(1, 2)] = Chlorobenzene.getFluid(896_000)
-        RECIPES[Pair(1, 3)] = SulfuricAcid.getFluid(784_000)
-        RECIPES[Pair(1, 4)] = Iron.getFluid(896_000)
-        RECIPES[Pair(1, 5)] = RawOil.getFluid(1_400_000)
-        RECIPES[Pair(1, 6)] = Oxygen.getFluid(2_800_000)
-        RECIPES[Pair(1, 7)] = SeaWater.getFluid(2_800_000)
-        RECIPES[Pair(1, 8)] = Air.getFluid(875_000)
+        addRecipe(1, 1, Water.getFluid(3_600_000))
+        addRecipe(1, 2, Chlorobenzene.getFluid(896_000))
+        addRecipe(1, 3, SulfuricAcid.getFluid(784_000))
+        addRecipe(1, 4, Iron.getFluid(896_000))
+        addRecipe(1, 5, RawOil.getFluid(1_400_000))
+        addRecipe(1, 6, Oxygen.getFluid(2_800_000))
+        addRecipe(1, 7, SeaWater.getFluid(2_800_000))
+        addRecipe(1, 8, Air.getFluid(875_000))
 
         // T2
-        RECIPES[Pair(2, 1)] = Oil.getFluid(1_400_000)
-        RECIPES[Pair(2, 2)] = OilHeavy.getFluid(1_792_000)
-        RECIPES[Pair(2, 3)] = OilLight.getFluid(780_000)
-        RECIPES[Pair(2, 4)] = NaturalGas.getFluid(1_400_000)
-        RECIPES[Pair(2, 5)] = Hydrogen.getFluid(2_200_000)
-        RECIPES[Pair(2, 6)] = CarbonMonoxide.getFluid(4_480_000)
-        RECIPES[Pair(2, 7)] = Helium.getFluid(2_800_000)
-        RECIPES[Pair(2, 8)] = Lava.getFluid(1_800_000)
+        addRecipe(2, 1, Oil.getFluid(1_400_000))
+        addRecipe(2, 2, OilHeavy.getFluid(1_792_000))
+        addRecipe(2, 3, OilLight.getFluid(780_000))
+        addRecipe(2, 4, NaturalGas.getFluid(1_400_000))
+        addRecipe(2, 5, Hydrogen.getFluid(2_200_000))
+        addRecipe(2, 6, CarbonMonoxide.getFluid(4_480_000))
+        addRecipe(2, 7, Helium.getFluid(2_800_000))
+        addRecipe(2, 8, Lava.getFluid(1_800_000))
 
         // T3
-        RECIPES[Pair(3, 1)] = Helium3.getFluid(1_250_000)
-        RECIPES[Pair(3, 2)] = NetherAir.getFluid(875_000)
-        RECIPES[Pair(3, 3)] = Deuterium.getFluid(1_568_000)
-        RECIPES[Pair(3, 4)] = NitricAcid.getFluid(784_000)
-        RECIPES[Pair(3, 5)] = Methane.getFluid(1_792_000)
-        RECIPES[Pair(3, 6)] = Neon.getFluid(2_000_000)
-        RECIPES[Pair(3, 7)] = EnderPearl.getFluid(640_000)
-        RECIPES[Pair(3, 8)] = CarbonDioxide.getFluid(2_240_000)
+        addRecipe(3, 1, Helium3.getFluid(1_250_000))
+        addRecipe(3, 2, NetherAir.getFluid(875_000))
+        addRecipe(3, 3, Deuterium.getFluid(1_568_000))
+        addRecipe(3, 4, NitricAcid.getFluid(784_000))
+        addRecipe(3, 5, Methane.getFluid(1_792_000))
+        addRecipe(3, 6, Neon.getFluid(2_000_000))
+        addRecipe(3, 7, EnderPearl.getFluid(640_000))
+        addRecipe(3, 8, CarbonDioxide.getFluid(2_240_000))
 
         // T4
-        RECIPES[Pair(4, 1)] = Copper.getFluid(896_000)
-        RECIPES[Pair(4, 2)] = Ethylene.getFluid(1_200_000)
-        RECIPES[Pair(4, 3)] = Ammonia.getFluid(640_000)
-        RECIPES[Pair(4, 4)] = HydrofluoricAcid.getFluid(1_792_000)
-        RECIPES[Pair(4, 5)] = EnderAir.getFluid(875_000)
-        RECIPES[Pair(4, 6)] = Argon.getFluid(1_600_000)
-        RECIPES[Pair(4, 7)] = Tritium.getFluid(1_568_000)
-        RECIPES[Pair(4, 8)] = DistilledWater.getFluid(5_000_000)
+        addRecipe(4, 1, Copper.getFluid(896_000))
+        addRecipe(4, 2, Ethylene.getFluid(1_200_000))
+        addRecipe(4, 3, Ammonia.getFluid(640_000))
+        addRecipe(4, 4, HydrofluoricAcid.getFluid(1_792_000))
+        addRecipe(4, 5, EnderAir.getFluid(875_000))
+        addRecipe(4, 6, Argon.getFluid(1_600_000))
+        addRecipe(4, 7, Tritium.getFluid(1_568_000))
+        addRecipe(4, 8, DistilledWater.getFluid(5_000_000))
 
         // T5
-        RECIPES[Pair(5, 1)] = Nitrogen.getFluid(1_792_000)
-        RECIPES[Pair(5, 2)] = Lead.getFluid(896_000)
-        RECIPES[Pair(5, 3)] = HydrochloricAcid.getFluid(1_792_000)
-        RECIPES[Pair(5, 4)] = Propene.getFluid(1_200_000)
-        RECIPES[Pair(5, 5)] = Krypton.getFluid(1_200_000)
-        RECIPES[Pair(5, 6)] = Toluene.getFluid(800_000)
-        RECIPES[Pair(5, 7)] = LiquidAir.getFluid(875_000)
-        RECIPES[Pair(5, 8)] = Chlorine.getFluid(1_480_000)
+        addRecipe(5, 1, Nitrogen.getFluid(1_792_000))
+        addRecipe(5, 2, Lead.getFluid(896_000))
+        addRecipe(5, 3, HydrochloricAcid.getFluid(1_792_000))
+        addRecipe(5, 4, Propene.getFluid(1_200_000))
+        addRecipe(5, 5, Krypton.getFluid(1_200_000))
+        addRecipe(5, 6, Toluene.getFluid(800_000))
+        addRecipe(5, 7, LiquidAir.getFluid(875_000))
+        addRecipe(5, 8, Chlorine.getFluid(1_480_000))
 
         // T6
-        RECIPES[Pair(6, 1)] = Tin.getFluid(896_000)
-        RECIPES[Pair(6, 2)] = Xenon.getFluid(800_000)
-        RECIPES[Pair(6, 3)] = Fluorobenzene.getFluid(448_000)
-        RECIPES[Pair(6, 4)] = SodiumBisulfate.getFluid(392_000)
-        RECIPES[Pair(6, 5)] = LiquidNetherAir.getFluid(875_000)
-        RECIPES[Pair(6, 6)] = Ethanol.getFluid(1_200_000)
-        RECIPES[Pair(6, 7)] = Lubricant.getFluid(1_440_000)
-        RECIPES[Pair(6, 8)] = Oxygen.getFluid(FluidStorageKeys.LIQUID, 2_800_000)
+        addRecipe(6, 1, Tin.getFluid(896_000))
+        addRecipe(6, 2, Xenon.getFluid(800_000))
+        addRecipe(6, 3, Fluorobenzene.getFluid(448_000))
+        addRecipe(6, 4, SodiumBisulfate.getFluid(392_000))
+        addRecipe(6, 5, LiquidNetherAir.getFluid(875_000))
+        addRecipe(6, 6, Ethanol.getFluid(1_200_000))
+        addRecipe(6, 7, Lubricant.getFluid(1_440_000))
+        addRecipe(6, 8, Oxygen.getFluid(FluidStorageKeys.LIQUID, 2_800_000))
 
         // T7
-        RECIPES[Pair(7, 1)] = FluoroantimonicAcid.getFluid(392_000)
-        RECIPES[Pair(7, 2)] = Mercury.getFluid(896_000)
-        RECIPES[Pair(7, 3)] = Glowstone.getFluid(660_000)
-        RECIPES[Pair(7, 4)] = LiquidEnderAir.getFluid(875_000)
-        RECIPES[Pair(7, 5)] = UraniumHexafluoride.getFluid(750_000)
-        RECIPES[Pair(7, 6)] = Fluorine.getFluid(1_792_000)
-        RECIPES[Pair(7, 7)] = AceticAcid.getFluid(640_000)
-        RECIPES[Pair(7, 8)] = Radon.getFluid(600_000)
+        addRecipe(7, 1, FluoroantimonicAcid.getFluid(392_000))
+        addRecipe(7, 2, Mercury.getFluid(896_000))
+        addRecipe(7, 3, Glowstone.getFluid(660_000))
+        addRecipe(7, 4, LiquidEnderAir.getFluid(875_000))
+        addRecipe(7, 5, UraniumHexafluoride.getFluid(750_000))
+        addRecipe(7, 6, Fluorine.getFluid(1_792_000))
+        addRecipe(7, 7, AceticAcid.getFluid(640_000))
+        addRecipe(7, 8, Radon.getFluid(600_000))
 
         // T8
-        RECIPES[Pair(8, 1)] = Helium.getFluid(FluidStorageKeys.LIQUID, 5_600_000)
-        RECIPES[Pair(8, 2)] = PhthalicAcid.getFluid(875_000)
-        RECIPES[Pair(8, 3)] = Nickel.getFluid(896_000)
-        RECIPES[Pair(8, 4)] = Styrene.getFluid(640_000)
-        RECIPES[Pair(8, 5)] = Nitrochlorobenzene.getFluid(325_000)
-        RECIPES[Pair(8, 6)] = Magnesium.getFluid(896_000)
-        RECIPES[Pair(8, 7)] = MethylamineMixture.getFluid(792_000)
-        RECIPES[Pair(8, 8)] = Phenol.getFluid(650_000)
+        addRecipe(8, 1, Helium.getFluid(FluidStorageKeys.LIQUID, 5_600_000))
+        addRecipe(8, 2, PhthalicAcid.getFluid(875_000))
+        addRecipe(8, 3, Nickel.getFluid(896_000))
+        addRecipe(8, 4, Styrene.getFluid(640_000))
+        addRecipe(8, 5, Nitrochlorobenzene.getFluid(325_000))
+        addRecipe(8, 6, Magnesium.getFluid(896_000))
+        addRecipe(8, 7, MethylamineMixture.getFluid(792_000))
+        addRecipe(8, 8, Phenol.getFluid(650_000))
 
         // T9
-        RECIPES[Pair(9, 1)] = BedrockSmoke.getFluid(1_792_000)
-        RECIPES[Pair(9, 2)] = NitrogenDioxide.getFluid(2_400_000)
-        RECIPES[Pair(9, 3)] = Resorcinol.getFluid(650_000)
-        RECIPES[Pair(9, 4)] = Hydroquinone.getFluid(650_000)
-        RECIPES[Pair(9, 5)] = DinitrogenTetroxide.getFluid(1_200_000)
-        RECIPES[Pair(9, 6)] = Manganese.getFluid(896_000)
-        RECIPES[Pair(9, 7)] = HexachloroplatinicAcid.getFluid(480_000)
-        RECIPES[Pair(9, 8)] = FormicAcid.getFluid(640_000)
+        addRecipe(9, 1, BedrockSmoke.getFluid(1_792_000))
+        addRecipe(9, 2, NitrogenDioxide.getFluid(2_400_000))
+        addRecipe(9, 3, Resorcinol.getFluid(650_000))
+        addRecipe(9, 4, Hydroquinone.getFluid(650_000))
+        addRecipe(9, 5, DinitrogenTetroxide.getFluid(1_200_000))
+        addRecipe(9, 6, Manganese.getFluid(896_000))
+        addRecipe(9, 7, HexachloroplatinicAcid.getFluid(480_000))
+        addRecipe(9, 8, FormicAcid.getFluid(640_000))
 
         // T10
-        RECIPES[Pair(10, 1)] = Naphthalene.getFluid(640_000)
-        RECIPES[Pair(10, 2)] = Butene.getFluid(896_000)
-        RECIPES[Pair(10, 3)] = HydrobromicAcid.getFluid(1_000_000)
-        RECIPES[Pair(10, 4)] = Acetylene.getFluid(1_480_000)
-        RECIPES[Pair(10, 5)] = Indene.getFluid(680_000)
-        RECIPES[Pair(10, 6)] = BoronTrifluoride.getFluid(560_000)
-        RECIPES[Pair(10, 7)] = ChlorinatedSolvents.getFluid(750_000)
-        RECIPES[Pair(10, 8)] = Gallium.getFluid(896_000)
+        addRecipe(10, 1, Naphthalene.getFluid(640_000))
+        addRecipe(10, 2, Butene.getFluid(896_000))
+        addRecipe(10, 3, HydrobromicAcid.getFluid(1_000_000))
+        addRecipe(10, 4, Acetylene.getFluid(1_480_000))
+        addRecipe(10, 5, Indene.getFluid(680_000))
+        addRecipe(10, 6, BoronTrifluoride.getFluid(560_000))
+        addRecipe(10, 7, ChlorinatedSolvents.getFluid(750_000))
+        addRecipe(10, 8, Gallium.getFluid(896_000))
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package gregtechlite.gtlitecore.api.recipe.map
+
+import gregtech.api.capability.IMultipleTankHandler
+import gregtech.api.recipes.Recipe
+import gregtech.api.recipes.RecipeMap
+import gregtech.api.util.GTUtility
+import gregtechlite.gtlitecore.mixins.MixinExtension
+import net.minecraft.item.ItemStack
+import net.minecraftforge.fluids.FluidStack
+import net.minecraftforge.items.IItemHandlerModifiable
+
+/**
+ * Extension of [RecipeMap] which finds recipes from its source recipe maps when none of its own recipes is matched.
+ *
+ * The recipes of source recipe maps are shared with the mirrored recipe map instead of copied, so they are not in the
+ * recipe list or the lookup of the mirrored recipe map, and all changes of source recipe maps (e.g. removals by
+ * scripts) are visible from the mirrored recipe map.
+ *
+ * Own recipes of the mirrored recipe map are always searched before source recipes, and sources are searched in the
+ * order which they are added. Copied recipes which have same inputs with own recipes were rejected as conflicts by
+ * the order of registration before, so this order only decides these conflicts.
+ *
+ * Only recipe maps which do not override [RecipeMap.findRecipe] can be mirrored, because source recipes are searched
+ * when the lookup of [RecipeMap] returns.
+ */
+@MixinExtension
+interface MirroredRecipeMap
+{
+
+    /**
+     * Add [source] as a source recipe map, which will be searched only if [condition] is satisfied by the inputs.
+     */
+    fun addMirrorSource(source: RecipeMap<*>, condition: MirrorCondition)
+
+    /**
+     * Check if [recipe] can be run with [inputs] and [fluidInputs], i.e. the condition of its source recipe map is
+     * satisfied. Recipes which are not from source recipe maps are always valid.
+     *
+     * Recipe logics reuse their previous recipe without searching it again, so the condition is checked again when
+     * the recipe logic checks the recipe.
+     */
+    fun checkMirroredRecipe(recipe: Recipe, inputs: IItemHandlerModifiable, fluidInputs: IMultipleTankHandler): Boolean
+
+    fun interface MirrorCondition
+    {
+
+        fun test(inputs: List<ItemStack?>, fluidInputs: List<FluidStack?>): Boolean
+
+        /**
+         * Test the condition on the inventories directly, which is used when the recipe logic checks its recipe. The
+         * default implementation copies inventories to lists, override it for conditions which are checked per tick.
+         */
+        fun test(inputs: IItemHandlerModifiable, fluidInputs: IMultipleTankHandler): Boolean
+        {
+            return test(GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs))
+        }
+
+        companion object
+        {
+
+            @JvmField
+            val ALWAYS = MirrorCondition { _, _ -> true }
+
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ import gregtech.api.recipes.ingredients.IntCircuitIngredient
 import gregtech.api.recipes.ui.RecipeMapUIFunction
 import net.minecraft.item.ItemStack
 import net.minecraftforge.fluids.FluidStack
+import java.util.function.Predicate
 
 abstract class PseudoGroupRecipeMapBase<R : RecipeBuilder<R>>(
     unlocalizedName: String,
@@ -26,33 +27,104 @@ abstract class PseudoGroupRecipeMapBase<R : RecipeBuilder<R>>(
          * The minimum configuration value of the integrated circuit.
          */
         const val MIN_CIRCUIT_VALUE = 20
+
+        /**
+         * Reusable search contexts, [findRecipe] can be called by both of the server thread and the client thread
+         * (e.g. JEI) in an integrated server, so each thread holds its own context.
+         */
+        private val searchContexts = ThreadLocal.withInitial { SearchContext() }
+
     }
 
-    protected fun getRecipe(voltage: Long, exactVoltage: Boolean,
-                            inputs: List<ItemStack?>, fluidInputs: List<FluidStack?>,
-                            inputItems: List<ItemStack>, inputFluids: List<FluidStack>,
-                            recipeMap: RecipeMap<R>): Recipe?
+    /**
+     * The sub-maps of the group, indexed by `circuitConfiguration - MIN_CIRCUIT_VALUE`.
+     */
+    protected abstract val groupRecipeMaps: Array<RecipeMap<R>>
+
+    override fun findRecipe(voltage: Long,
+                            inputs: List<ItemStack?>,
+                            fluidInputs: List<FluidStack?>,
+                            exactVoltage: Boolean): Recipe?
     {
-        return recipeMap.find(inputItems, inputFluids) { recipe ->
-            if (exactVoltage && recipe.eUt != voltage) return@find false
-            if (recipe.eUt > voltage) return@find false
-            return@find recipe.matches(false, inputs, fluidInputs)
+        val context = searchContexts.get()
+        try
+        {
+            // Filter inputs and read the circuit configuration in the same pass of inputs.
+            val index = context.collectInputs(inputs, fluidInputs, groupRecipeMaps.size) - MIN_CIRCUIT_VALUE
+            if (index !in groupRecipeMaps.indices) return null
+            context.voltage = voltage
+            context.exactVoltage = exactVoltage
+            return groupRecipeMaps[index].find(context.inputItems, context.inputFluids, context)
+        }
+        finally
+        {
+            context.clear()
         }
     }
 
-    fun getCircuitValue(inputs: List<ItemStack?>, size: Int): Int
+    /**
+     * Filtered input views and the recipe predicate of a single [findRecipe] call, all of them will be reused by the
+     * next call of the same thread.
+     */
+    private class SearchContext : Predicate<Recipe>
     {
-        for (input in inputs)
+
+        val inputItems = ArrayList<ItemStack>()
+        val inputFluids = ArrayList<FluidStack>()
+
+        var voltage = 0L
+        var exactVoltage = false
+
+        private var inputs: List<ItemStack?> = emptyList()
+        private var fluidInputs: List<FluidStack?> = emptyList()
+
+        /**
+         * Collect non-null inputs to views, returns the first circuit configuration which is in the configuration
+         * range of a group with [groupSize] sub-maps, or `0` if there is no such circuit in inputs.
+         */
+        fun collectInputs(inputs: List<ItemStack?>, fluidInputs: List<FluidStack?>, groupSize: Int): Int
         {
-            if (IntCircuitIngredient.isIntegratedCircuit(input))
+            this.inputs = inputs
+            this.fluidInputs = fluidInputs
+
+            var circuitValue = 0
+            for (i in inputs.indices)
+            {
+                val input = inputs[i] ?: continue
+                inputItems.add(input)
+                if (circuitValue == 0 && IntCircuitIngredient.isIntegratedCircuit(input))
+                {
+                    val num = IntCircuitIngredient.getCircuitConfiguration(input)
+                    // Only circuits with correct configuration will be considered.
+                    if (num >= MIN_CIRCUIT_VALUE && num < MIN_CIRCUIT_VALUE + groupSize)
+                        circuitValue = num
+                }
+            }
+
+            for (i in fluidInputs.indices)
             {
-                // Only circuits with correct configuration will be considered.
-                val num  = IntCircuitIngredient.getCircuitConfiguration(input)
-                if (num in MIN_CIRCUIT_VALUE..(MIN_CIRCUIT_VALUE + size))
-                    return num
+                val fluidInput = fluidInputs[i] ?: continue
+                if (fluidInput.amount != 0)
+                    inputFluids.add(fluidInput)
             }
+            return circuitValue
+        }
+
+        override fun test(recipe: Recipe): Boolean
+        {
+            if (exactVoltage && recipe.eUt != voltage) return false
+            if (recipe.eUt > voltage) return false
+            return recipe.matches(false, inputs, fluidInputs)
+        }
+
+        fun clear()
+        {
+            inputItems.clear()
+            inputFluids.clear()
+            inputs = emptyList()
+            fluidInputs = emptyList()
         }
-        return 0
+
     }
 
-}
\ No newline at end of file
+}
@@ -1,12 +1,18 @@
 package gregtechlite.gtlitecore.api.recipe.property.value
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet
 import net.minecraft.block.state.IBlockState
 
 class PseudoMultiPropertyValues(val blockGroupName: String,
                                 val validBlockStates: List<IBlockState>)
 {
 
+    // Block states are singletons, so the lookup set compares them by identity.
+    private val validBlockStateSet: Set<IBlockState> = ReferenceOpenHashSet(validBlockStates)
+
     constructor(blockGroupName: String,
                 vararg validBlockStates: IBlockState) : this(blockGroupName, listOf(*validBlockStates))
 
+    fun isValidBlockState(state: IBlockState?) = state != null && state in validBlockStateSet
+
 }
\ No newline at end of file
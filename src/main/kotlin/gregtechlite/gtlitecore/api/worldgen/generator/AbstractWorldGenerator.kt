@@ -5,6 +5,7 @@ import gregtechlite.gtlitecore.api.GTLiteLog
 import gregtechlite.gtlitecore.api.worldgen.CustomWorldGenerator
 import gregtechlite.gtlitecore.api.worldgen.condition.GenerateCondition
 import gregtechlite.gtlitecore.common.worldgen.generator.WorldGeneratorRegistry
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap
 import net.minecraft.block.state.IBlockState
 import net.minecraft.util.math.BlockPos
 import net.minecraft.world.World
@@ -18,6 +19,12 @@ abstract class AbstractWorldGenerator(private val seed: Int) : CustomWorldGenera
 
     private lateinit var generatorSimplex: NoiseGeneratorSimplex
 
+    /**
+     * Seeded noise generators of each dimension, the seed of a world never changes, so it is only created once until
+     * the world is unloaded.
+     */
+    private val cachedNoises = Int2ObjectOpenHashMap<SeededNoise>()
+
     open val perlinScale: Double = 0.04
 
     private var chunkCounter: Int = 0
@@ -39,7 +46,22 @@ abstract class AbstractWorldGenerator(private val seed: Int) : CustomWorldGenera
 
     open fun setWorld(worldIn: World)
     {
-        this.generatorSimplex = NoiseGeneratorSimplex(XoShiRo256PlusPlusRandom(worldIn.seed + this.seed))
+        val seed = worldIn.seed + this.seed
+        var cachedNoise = cachedNoises.get(worldIn.provider.dimension)
+        if (cachedNoise == null || cachedNoise.seed != seed)
+        {
+            cachedNoise = SeededNoise(seed, NoiseGeneratorSimplex(XoShiRo256PlusPlusRandom(seed)))
+            cachedNoises.put(worldIn.provider.dimension, cachedNoise)
+        }
+        this.generatorSimplex = cachedNoise.noise
+    }
+
+    /**
+     * Invalidate the cached noise generator of [worldIn], called when the world is unloaded.
+     */
+    open fun invalidateWorld(worldIn: World)
+    {
+        cachedNoises.remove(worldIn.provider.dimension)
     }
 
     open fun getRandomStrength(chunkX: Int, chunkZ: Int): Double
@@ -62,4 +84,6 @@ abstract class AbstractWorldGenerator(private val seed: Int) : CustomWorldGenera
 
     }
 
+    private class SeededNoise(val seed: Long, val noise: NoiseGeneratorSimplex)
+
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import gregtech.api.unification.material.event.MaterialRegistryEvent
 import gregtech.api.unification.material.event.PostMaterialEvent
 import gregtech.loaders.recipe.CraftingComponent
 import gregtechlite.gtlitecore.api.MOD_ID
+import gregtechlite.gtlitecore.api.pattern.StructureChangeTracker
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeProperties
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials
 import gregtechlite.gtlitecore.api.unification.material.info.GTLiteMaterialFlags
@@ -17,6 +18,7 @@ import gregtechlite.gtlitecore.api.unification.material.properties.GTLiteMateria
 import gregtechlite.gtlitecore.api.unification.material.properties.GTLiteToolPropertyAdder
 import gregtechlite.gtlitecore.api.unification.ore.GTLiteOrePrefix
 import gregtechlite.gtlitecore.common.item.GTLiteToolItems
+import gregtechlite.gtlitecore.common.worldgen.generator.WorldGeneratorManager
 import gregtechlite.gtlitecore.loader.RecyclingDataLoader
 import gregtechlite.gtlitecore.loader.WoodTypeEntryLoader
 import gregtechlite.gtlitecore.loader.ore.OreDictionaryLoader
@@ -25,6 +27,9 @@ import gregtechlite.gtlitecore.loader.recipe.component.CraftingComponents
 import gregtechlite.gtlitecore.loader.recipe.handler.RecipeHandlers
 import net.minecraft.item.crafting.IRecipe
 import net.minecraftforge.event.RegistryEvent
+import net.minecraftforge.event.world.BlockEvent
+import net.minecraftforge.event.world.ChunkEvent
+import net.minecraftforge.event.world.WorldEvent
 import net.minecraftforge.fml.common.eventhandler.EventPriority
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent
 
@@ -82,4 +87,26 @@ object EventHandlers
         RecipeHandlers.init()
     }
 
+    @SubscribeEvent
+    fun onNeighborNotify(event: BlockEvent.NeighborNotifyEvent)
+    {
+        if (event.world.isRemote) return
+        StructureChangeTracker.onBlockChanged(event.world, event.pos)
+    }
+
+    @SubscribeEvent
+    fun onChunkUnload(event: ChunkEvent.Unload)
+    {
+        if (event.world.isRemote) return
+        StructureChangeTracker.onChunkUnload(event.world, event.chunk.x, event.chunk.z)
+    }
+
+    @SubscribeEvent
+    fun onWorldUnload(event: WorldEvent.Unload)
+    {
+        if (event.world.isRemote) return
+        StructureChangeTracker.onWorldUnload(event.world)
+        WorldGeneratorManager.onWorldUnload(event.world)
+    }
+
 }
\ No newline at end of file
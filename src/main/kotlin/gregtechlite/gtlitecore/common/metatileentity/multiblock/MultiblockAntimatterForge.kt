@@ -1,8 +1,6 @@
 package gregtechlite.gtlitecore.common.metatileentity.multiblock
 
-import gregtech.api.GTValues.VOC
 import gregtech.api.capability.impl.EnergyContainerList
-import gregtech.api.capability.impl.MultiblockRecipeLogic
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity
 import gregtech.api.metatileentity.multiblock.IMultiblockPart
 import gregtech.api.metatileentity.multiblock.MultiblockAbility.EXPORT_FLUIDS
@@ -14,8 +12,8 @@ import gregtech.api.metatileentity.multiblock.MultiblockAbility.SUBSTATION_INPUT
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController
 import gregtech.api.pattern.BlockPattern
 import gregtech.api.pattern.FactoryBlockPattern
-import gregtech.api.util.GTUtility.getFloorTierByVoltage
 import gregtech.client.renderer.ICubeRenderer
+import gregtechlite.gtlitecore.api.capability.logic.ExtendedPowerMultiblockRecipeLogic
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.ANTIMATTER_FORGE_RECIPES
 import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
 import gregtechlite.gtlitecore.common.block.variant.GlassCasing
@@ -27,7 +25,6 @@ import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
-import kotlin.math.max
 
 class MultiblockAntimatterForge(id: ResourceLocation)
     : RecipeMapMultiblockController(id, ANTIMATTER_FORGE_RECIPES)
@@ -162,57 +159,9 @@ class MultiblockAntimatterForge(id: ResourceLocation)
 
     override fun hasMaintenanceMechanics() = false
 
-    private inner class AntimatterForgeRecipeLogic(metaTileEntity: RecipeMapMultiblockController?) : MultiblockRecipeLogic(metaTileEntity)
+    private inner class AntimatterForgeRecipeLogic(metaTileEntity: RecipeMapMultiblockController) : ExtendedPowerMultiblockRecipeLogic(metaTileEntity)
     {
 
-        /**
-         * Ignored maximum overclock voltage of energy hatches limit, let it be the maximum voltage
-         * of the MTE because we need to consume huge energies for Nano Forge. This is a revert of
-         * GTCEu pull request <a href="https://github.com/GregTechCEu/GregTech/pull/2139">#2139</a>.
-         */
-        override fun getMaximumOverclockVoltage() = maxVoltage
-
-        /**
-         * Ignored maximum overclock voltage of energy hatches limit, let it be the maximum voltage
-         * of the MTE because we need to consume huge energies for Nano Forge. This is a revert of
-         * GTCEu pull request <a href="https://github.com/GregTechCEu/GregTech/pull/2139">#2139</a>.
-         */
-        override fun getMaxVoltage(): Long
-        {
-            val energyContainer = energyContainer
-            if (energyContainer is EnergyContainerList)
-            {
-                val voltage: Long
-                val amperage: Long
-                if (energyContainer.inputVoltage > energyContainer.outputVoltage)
-                {
-                    voltage = energyContainer.inputVoltage
-                    amperage = energyContainer.inputAmperage
-                }
-                else
-                {
-                    voltage = energyContainer.outputVoltage
-                    amperage = energyContainer.outputAmperage
-                }
-
-                return if (amperage == 1L)
-                {
-                    // amperage is 1 when the energy is not exactly on a tier
-                    // the voltage for recipe search is always on tier, so take the closest lower tier
-                    VOC[getFloorTierByVoltage(voltage).toInt()]
-                }
-                else
-                {
-                    // amperage != 1 means the voltage is exactly on a tier
-                    // ignore amperage, since only the voltage is relevant for recipe search
-                    // amps are never > 3 in an EnergyContainerList
-                    voltage
-                }
-            }
-            return max(energyContainer.inputVoltage.toDouble(),
-                energyContainer.outputVoltage.toDouble()).toLong()
-        }
-
         override fun getParallelLimit() = Int.MAX_VALUE
 
     }
@@ -22,6 +22,7 @@ import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.getAttributeOr
 import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.motorCasings
 import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.pistonCasings
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.DRILLING_RECIPES
+import gregtechlite.gtlitecore.api.metatileentity.multiblock.IncrementalStructureCheck
 import gregtechlite.gtlitecore.api.metatileentity.multiblock.MultiblockTooltipBuilder.Companion.addTooltip
 import gregtechlite.gtlitecore.api.metatileentity.multiblock.OverclockMode
 import gregtechlite.gtlitecore.api.metatileentity.multiblock.UpgradeMode
@@ -31,6 +32,7 @@ import gregtechlite.gtlitecore.common.block.adapter.GTMultiblockCasing
 import gregtechlite.gtlitecore.common.block.adapter.GTTurbineCasing
 import gregtechlite.gtlitecore.common.block.variant.MetalCasing
 import gregtechlite.gtlitecore.common.block.variant.MultiblockCasing
+import net.minecraft.block.state.IBlockState
 import net.minecraft.item.ItemStack
 import net.minecraft.util.ResourceLocation
 import net.minecraft.util.math.BlockPos
@@ -40,7 +42,7 @@ import net.minecraftforge.fml.relauncher.SideOnly
 import net.minecraftforge.items.IItemHandlerModifiable
 import kotlin.math.max
 
-class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockController(id, DRILLING_RECIPES)
+class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockController(id, DRILLING_RECIPES), IncrementalStructureCheck
 {
 
     private var pistonCasingTier = 0
@@ -50,6 +52,9 @@ class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockCo
     // Target block at drill head block in multiblock structure bottom.
     private var targetBlock: BlockPos? = null
 
+    // Block state of target block which is applied to the input inventory.
+    private var targetState: IBlockState? = null
+
     init
     {
         recipeMapWorkable = BedrockDrillingRigWorkableHandler(this)
@@ -62,6 +67,8 @@ class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockCo
         private val gearboxCasingState = GTTurbineCasing.TUNGSTENSTEEL_GEARBOX.state
         private val thirdCasingState = MultiblockCasing.DRILL_HEAD.state
         private val fourthCasingState = GTMultiblockCasing.GRATE_CASING.state
+
+        private const val TARGET_BLOCK = "TargetBlock"
     }
 
     override fun createMetaTileEntity(tileEntity: IGregTechTileEntity) = MultiblockBedrockDrillingRig(metaTileEntityId)
@@ -73,10 +80,28 @@ class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockCo
         motorCasingTier = context.getAttributeOrDefault(MOTOR_CASING_TIER, 0)
         tier = minOf(pistonCasingTier, motorCasingTier)
 
-        // Transformed targetBlock from blockPos in inputInventory.
-        targetBlock?.let {
-            inputInventory.setStackInSlot(0, world.getBlockState(it).toItem())
-        }
+        targetBlock = context.get(TARGET_BLOCK)
+        targetState = null
+        applyTargetBlock()
+    }
+
+    override fun checkStructurePattern()
+    {
+        super.checkStructurePattern()
+        if (isStructureFormed) applyTargetBlock()
+    }
+
+    /**
+     * Transform the target block to the item in input inventory, the inventory is only written when the target block
+     * is changed, e.g. it is destroyed by the recipe logic.
+     */
+    private fun applyTargetBlock()
+    {
+        val pos = targetBlock ?: return
+        val state = world.getBlockState(pos)
+        if (state === targetState) return
+        targetState = state
+        inputInventory.setStackInSlot(0, state.toItem())
     }
 
     override fun invalidateStructure()
@@ -85,6 +110,7 @@ class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockCo
         pistonCasingTier = 0
         motorCasingTier = 0
         targetBlock = null
+        targetState = null
         // inputInventory.setStackInSlot(0, ItemStack.EMPTY)
     }
 
@@ -123,11 +149,7 @@ class MultiblockBedrockDrillingRig(id: ResourceLocation) : RecipeMapMultiblockCo
     // @formatter:on
 
     private fun blockPredicate() = TraceabilityPredicate { blockWorldState: BlockWorldState ->
-        targetBlock = blockWorldState.pos
-        if (isStructureFormed)
-        {
-            inputInventory.setStackInSlot(0, world.getBlockState(targetBlock!!).toItem())
-        }
+        blockWorldState.matchContext[TARGET_BLOCK] = blockWorldState.pos
         return@TraceabilityPredicate true
     }
 
@@ -42,6 +42,7 @@ import gregtechlite.gtlitecore.common.block.adapter.GTComputerCasing
 import gregtechlite.gtlitecore.common.block.variant.science.ScienceCasing
 import gregtechlite.gtlitecore.common.metatileentity.GTLiteMetaTileEntities
 import gregtechlite.gtlitecore.core.GTLiteConfigHolder
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap
 import net.minecraft.client.resources.I18n
 import net.minecraft.item.ItemStack
 import net.minecraft.nbt.NBTTagCompound
@@ -53,7 +54,9 @@ import net.minecraftforge.energy.CapabilityEnergy.ENERGY
 import net.minecraftforge.fluids.FluidStack
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
+import net.minecraftforge.items.IItemHandler
 import net.minecraftforge.items.IItemHandlerModifiable
+import java.util.BitSet
 import kotlin.math.max
 import kotlin.math.min
 
@@ -69,6 +72,15 @@ class MultiblockEnergyInfuser(id: ResourceLocation) : MultiblockWithDisplayBase(
     private var isActive = false
     private var isWorkingEnabled = false
 
+    /**
+     * Slots of [inputInventory] which still need to be charged, repaired or moved to outputs. A slot leaves the set
+     * when it is empty or its finished item can not be moved ([blockedSlots]), and rejoins it when the input bus which
+     * owns it is notified (or outputs are notified for blocked slots).
+     */
+    private val workingSlots = BitSet()
+    private val blockedSlots = BitSet()
+    private val slotOffsets = Reference2IntOpenHashMap<IItemHandler>().apply { defaultReturnValue(-1) }
+
     companion object
     {
         private val casingState = GTComputerCasing.HIGH_POWER_CASING.state
@@ -86,12 +98,53 @@ class MultiblockEnergyInfuser(id: ResourceLocation) : MultiblockWithDisplayBase(
     
     private fun initializeAbilities()
     {
-        inputInventory = ItemHandlerList(getAbilities(IMPORT_ITEMS))
+        val inputItems = getAbilities(IMPORT_ITEMS)
+        inputInventory = ItemHandlerList(inputItems)
         outputInventory = ItemHandlerList(getAbilities(EXPORT_ITEMS))
         inputFluidInventory = FluidTankList(true, getAbilities(IMPORT_FLUIDS))
         
         val inputEnergy = getAbilities(INPUT_ENERGY)
         energyContainer = EnergyContainerList(inputEnergy)
+
+        slotOffsets.clear()
+        var offset = 0
+        for (handler in inputItems)
+        {
+            slotOffsets.putIfAbsent(handler, offset)
+            offset += handler.slots
+        }
+        workingSlots.clear()
+        workingSlots.set(0, offset)
+        blockedSlots.clear()
+    }
+
+    override fun addNotifiedInput(input: Any?)
+    {
+        super.addNotifiedInput(input)
+        if (input !is IItemHandler) return
+        val offset = slotOffsets.getInt(input)
+        if (offset != -1)
+            workingSlots.set(offset, offset + input.slots)
+        else // Handlers which are not a bus (e.g. wrapped by parts) wake all slots up.
+            workingSlots.set(0, inputInventory?.slots ?: 0)
+    }
+
+    override fun addNotifiedOutput(output: Any?)
+    {
+        super.addNotifiedOutput(output)
+        unblockSlots()
+    }
+
+    override fun setVoidingMode(mode: Int)
+    {
+        super.setVoidingMode(mode)
+        unblockSlots()
+    }
+
+    private fun unblockSlots()
+    {
+        workingSlots.or(blockedSlots)
+        blockedSlots.clear()
     }
 
     // @formatter:off
@@ -175,29 +228,44 @@ class MultiblockEnergyInfuser(id: ResourceLocation) : MultiblockWithDisplayBase(
         if (!isWorkingEnabled || world == null || world.isRemote) return
         
         var itemProcessed = false
-        for (i in 0 ..< inputInventory!!.getSlots())
+        val slots = inputInventory!!.getSlots()
+        var i = workingSlots.nextSetBit(0)
+        while (i in 0 ..< slots)
         {
+            val slot = i
+            i = workingSlots.nextSetBit(i + 1)
+
             var energyAvailable = energyContainer!!.energyStored
             if (energyAvailable < 1) break
             
-            var stackInSlot = inputInventory!!.getStackInSlot(i)
-            if (stackInSlot.isEmpty) continue
+            var stackInSlot = inputInventory!!.getStackInSlot(slot)
+            if (stackInSlot.isEmpty)
+            {
+                workingSlots.clear(slot)
+                continue
+            }
             
             val isCharged = isItemFullyCharged(stackInSlot)
             val isRepaired: Boolean = GTLiteToolHelper.isItemHasFullDurability(stackInSlot)
             
             if (isCharged && isRepaired)
             {
-                stackInSlot = inputInventory!!.extractItem(i, 1, true)
+                stackInSlot = inputInventory!!.extractItem(slot, 1, true)
                 if (outputInventory!!.getSlots() > 0
                     && insertItem(outputInventory, stackInSlot, true).isEmpty)
                 {
-                    stackInSlot = inputInventory!!.extractItem(i, 1, false)
+                    stackInSlot = inputInventory!!.extractItem(slot, 1, false)
                     insertItem(outputInventory, stackInSlot, false)
                 }
                 else if (voidingMode == 1 || voidingMode == 3)
                 {
-                    inputInventory!!.extractItem(i, 1, false)
+                    inputInventory!!.extractItem(slot, 1, false)
+                }
+                else
+                {
+                    // Finished item can not be moved, wait for outputs.
+                    workingSlots.clear(slot)
+                    blockedSlots.set(slot)
                 }
             }
             
@@ -42,6 +42,7 @@ import net.minecraft.util.EnumFacing
 import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
 import net.minecraftforge.common.capabilities.Capability
+import net.minecraftforge.fluids.capability.IFluidHandler
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
 import kotlin.math.max
@@ -65,6 +66,17 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
 
     private var progressTime = 0
 
+    /**
+     * Fluid vein entry of the chunk which the fracker placed in, it is resolved when the structure is formed.
+     */
+    private var veinEntry: BedrockFluidVeinHandler.FluidVeinWorldEntry? = null
+
+    /**
+     * Result of the simulated drain of fracturing fluid, it is checked again only when input hatches are notified.
+     */
+    private var hasFracturingFluid = false
+    private var isDrainOutdated = true
+
     private var isActive: Boolean = true
     private var isWorkingEnabled: Boolean = true
     private var wasActiveAndNeedsUpdate: Boolean = false
@@ -76,12 +88,23 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
     {
         super.formStructure(context)
         initializeAbilities()
+        veinEntry = BedrockFluidVeinHandler.getFluidVeinWorldEntry(world, pos.x / 16, pos.z / 16)
+        isDrainOutdated = true
     }
 
     override fun invalidateStructure()
     {
         super.invalidateStructure()
         resetTileAbilities()
+        veinEntry = null
+        isDrainOutdated = true
+    }
+
+    override fun addNotifiedInput(input: Any?)
+    {
+        super.addNotifiedInput(input)
+        if (input is IFluidHandler)
+            isDrainOutdated = true
     }
 
     private fun initializeAbilities()
@@ -168,6 +191,7 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
         progressTime = 0
 
         // Actually drain the fluid.
+        isDrainOutdated = true
         if (drainTanks(FLUID_USE_AMOUNT, true))
         {
             drainTanks(FLUID_USE_AMOUNT, false)
@@ -175,6 +199,16 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
         }
     }
 
+    private fun canDrainTanks(): Boolean
+    {
+        if (isDrainOutdated)
+        {
+            hasFracturingFluid = drainTanks(FLUID_USE_AMOUNT, true)
+            isDrainOutdated = false
+        }
+        return hasFracturingFluid
+    }
+
     /**
      * @return true if the fracker is able to drain, else false
      */
@@ -193,7 +227,7 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
             }
             return false
         }
-        else if (drainTanks(FLUID_USE_AMOUNT, true))
+        else if (canDrainTanks())
         {
             return true
         }
@@ -235,8 +269,7 @@ class MultiblockHydraulicFracker(id: ResourceLocation,
 
     private fun replenishVein(simulate: Boolean): Boolean
     {
-        val entry = BedrockFluidVeinHandler.getFluidVeinWorldEntry(world, pos.x / 16, pos.z / 16)
-        if (entry == null) return false
+        val entry = veinEntry ?: return false
 
         val definition = entry.definition
         if (definition == null) return false
@@ -3,7 +3,6 @@ package gregtechlite.gtlitecore.common.metatileentity.multiblock
 import gregtech.api.GTValues.ULV
 import gregtech.api.capability.IEnergyContainer
 import gregtech.api.capability.impl.EnergyContainerList
-import gregtech.api.capability.impl.ItemHandlerList
 import gregtech.api.capability.impl.MultiblockRecipeLogic
 import gregtech.api.gui.Widget
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity
@@ -56,6 +55,7 @@ import net.minecraft.util.EnumFacing
 import net.minecraft.util.ResourceLocation
 import net.minecraft.util.math.MathHelper.clamp
 import net.minecraft.world.World
+import net.minecraftforge.items.IItemHandler
 import kotlin.math.floor
 
 /**
@@ -83,9 +83,26 @@ class MultiblockPCBFactory(id: ResourceLocation?)
      * Trace size to modify durations and OC params,  default: 100μm, range: 25~200μm.
      */
     private var traceSize = 100
+        set(value)
+        {
+            field = value
+            updateTraceFactors()
+        }
     private val minTraceSize = 25
     private val maxTraceSize = 200
 
+    /**
+     * Duration and energy factors of the current [traceSize], they are updated when the trace size is changed.
+     */
+    private var traceDurationFactor = 1.0
+    private var traceEnergyFactor = 1.0
+
+    /**
+     * Parallel limit by nanites in input buses, it is recounted when input buses are notified or structure is changed.
+     */
+    private var naniteParallel = 0
+    private var isNaniteParallelOutdated = true
+
     init
     {
         recipeMapWorkable = PCBFactoryRecipeLogic(this)
@@ -110,6 +127,9 @@ class MultiblockPCBFactory(id: ResourceLocation?)
         private val coilState = GTFusionCasing.SUPERCONDUCTOR_COIL.state
 
         private val glassState= GTGlassCasing.LAMINATED_GLASS.state
+
+        private val silverNanite by lazy { OreDictUnifier.get(nanite, Silver) }
+        private val goldNanite by lazy { OreDictUnifier.get(nanite, Gold) }
     }
 
     override fun createMetaTileEntity(tileEntity: IGregTechTileEntity) = MultiblockPCBFactory(metaTileEntityId)
@@ -137,6 +157,7 @@ class MultiblockPCBFactory(id: ResourceLocation?)
             coolingUpgradeNumber += 1 // Liquid cooling tower structure upgrade
         if (context.get<String>("CoolingStructureUpgradeT2") != null)
             coolingUpgradeNumber += 1 // Thermosink structure upgrade
+        isNaniteParallelOutdated = true
     }
 
     override fun invalidate()
@@ -145,6 +166,14 @@ class MultiblockPCBFactory(id: ResourceLocation?)
         mainUpgradeNumber = 0
         auxiliaryUpgradeNumber = 0
         coolingUpgradeNumber = 0
+        isNaniteParallelOutdated = true
+    }
+
+    override fun addNotifiedInput(input: Any?)
+    {
+        super.addNotifiedInput(input)
+        if (input is IItemHandler)
+            isNaniteParallelOutdated = true
     }
 
     override fun initializeAbilities()
@@ -410,6 +439,68 @@ class MultiblockPCBFactory(id: ResourceLocation?)
         traceSize = clamp(traceSize + 25, minTraceSize, maxTraceSize)
     }
 
+    private fun updateTraceFactors()
+    {
+        traceDurationFactor = when (traceSize)
+        {
+            25 -> 0.4
+            50 -> 0.6
+            75 -> 0.8
+            125 -> 1.2
+            150 -> 1.4
+            175 -> 1.6
+            200 -> 1.8
+            else -> 1.0
+        }
+        traceEnergyFactor = when (traceSize)
+        {
+            25 -> 2.5
+            50 -> 2.0
+            75 -> 1.5
+            125 -> 0.9
+            150 -> 0.8
+            175 -> 0.7
+            200 -> 0.6
+            else -> 1.0
+        }
+    }
+
+    /**
+     * Count the parallel limit by nanites in input buses. Silver nanites doubled it in T2 structure, and gold nanites
+     * quadrupled it in T3 structure, otherwise it is the stack size of the last slot.
+     */
+    private fun getNaniteParallel(): Int
+    {
+        if (isNaniteParallelOutdated)
+        {
+            naniteParallel = countNaniteParallel()
+            isNaniteParallelOutdated = false
+        }
+        return naniteParallel
+    }
+
+    private fun countNaniteParallel(): Int
+    {
+        // Input inventory of controller is the merged handler of all input buses.
+        val itemInputs = getInputInventory()
+        val naniteStack = when (mainUpgradeNumber)
+        {
+            2 -> silverNanite
+            3 -> goldNanite
+            else -> null
+        }
+        val multiplier = if (mainUpgradeNumber == 3) 4 else 2
+        var parallelBase = 0
+        for (i in 0 until itemInputs.slots)
+        {
+            val stack = itemInputs.getStackInSlot(i)
+            parallelBase = stack.count
+            if (naniteStack != null && stack.isItemEqual(naniteStack))
+                return parallelBase * multiplier
+        }
+        return parallelBase
+    }
+
     override fun checkRecipe(recipe: Recipe, consumeIfSuccess: Boolean): Boolean
     {
         return super.checkRecipe(recipe, consumeIfSuccess)
@@ -428,37 +519,16 @@ class MultiblockPCBFactory(id: ResourceLocation?)
             else -> 0.0 // Error OC
         }
 
-        override fun getParallelLimit() = calculateParallelByNanites()
+        override fun getParallelLimit() = getNaniteParallel()
 
         override fun setMaxProgress(maxProgress: Int)
         {
-            maxProgressTime = when (traceSize)
-            {
-                25 -> floor(0.4 * maxProgress).toInt()
-                50 -> floor(0.6 * maxProgress).toInt()
-                75 -> floor(0.8 * maxProgress).toInt()
-                125 -> floor(1.2 * maxProgress).toInt()
-                150 -> floor(1.4 * maxProgress).toInt()
-                175 -> floor(1.6 * maxProgress).toInt()
-                200 -> floor(1.8 * maxProgress).toInt()
-                else -> maxProgress
-            }
+            maxProgressTime = floor(traceDurationFactor * maxProgress).toInt()
         }
 
         override fun updateRecipeProgress()
         {
-            val traceSizeFactor = when (traceSize)
-            {
-                25 -> 2.5
-                50 -> 2
-                75 -> 1.5
-                125 -> 0.9
-                150 -> 0.8
-                175 -> 0.7
-                200 -> 0.6
-                else -> 1
-            }
-            val actuallyEnergyConsumed: Int = recipeEUt.toInt() * traceSizeFactor.toInt()
+            val actuallyEnergyConsumed: Int = recipeEUt.toInt() * traceEnergyFactor.toInt()
             if (canRecipeProgress && drawEnergy(actuallyEnergyConsumed.toLong(), true))
             {
                 drawEnergy(actuallyEnergyConsumed.toLong(), false)
@@ -474,28 +544,6 @@ class MultiblockPCBFactory(id: ResourceLocation?)
             }
         }
 
-        private fun calculateParallelByNanites(): Int
-        {
-            val itemInputInventory = getAbilities(IMPORT_ITEMS)
-            val itemInputs = ItemHandlerList(itemInputInventory)
-            var parallelBase = 0
-            for (i in 0 until itemInputs.slots)
-            {
-                parallelBase = itemInputs.getStackInSlot(i).count
-                if (mainUpgradeNumber == 2)
-                {
-                    if (itemInputs.getStackInSlot(i).isItemEqual(OreDictUnifier.get(nanite, Silver)))
-                        return parallelBase * 2
-                }
-                if (mainUpgradeNumber == 3)
-                {
-                    if (itemInputs.getStackInSlot(i).isItemEqual(OreDictUnifier.get(nanite, Gold)))
-                        return parallelBase * 4
-                }
-            }
-            return parallelBase
-        }
-
     }
 
 }
\ No newline at end of file
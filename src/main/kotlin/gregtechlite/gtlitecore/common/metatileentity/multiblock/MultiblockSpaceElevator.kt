@@ -36,6 +36,7 @@ import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.accelerationTr
 import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.getAttributeOrDefault
 import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
 import gregtechlite.gtlitecore.common.block.variant.aerospace.AerospaceCasing
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet
 import net.minecraft.client.resources.I18n
 import net.minecraft.item.ItemStack
 import net.minecraft.nbt.NBTTagCompound
@@ -44,13 +45,16 @@ import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
-import java.util.concurrent.ConcurrentHashMap
 
 class MultiblockSpaceElevator(id: ResourceLocation)
     : MultiblockWithDisplayBase(id), ModuleProvider
 {
 
-    private val moduleReceivers = ConcurrentHashMap.newKeySet<ModuleReceiver>()
+    // Module graph of the space elevator, modules are attached after the structure check and detached by themselves.
+    private val moduleReceivers = ReferenceLinkedOpenHashSet<ModuleReceiver>()
+
+    // Modules which are matched by the module predicate in the current structure check.
+    private val pendingModules = ReferenceLinkedOpenHashSet<ModuleReceiver>()
 
     private var energyContainer: IEnergyContainer? = null
     override var computationProvider: IOpticalComputationProvider? = null
@@ -72,24 +76,33 @@ class MultiblockSpaceElevator(id: ResourceLocation)
 
     override fun createMetaTileEntity(tileEntity: IGregTechTileEntity) = MultiblockSpaceElevator(metaTileEntityId)
 
-    override fun update()
-    {
-        super.update()
-        if (!isStructureFormed)
-            moduleReceivers.forEach { it.sentWorkingDisabled() }
-    }
-    
     override fun updateFormedValid()
     {
-        if (!moduleReceivers.isEmpty())
-        {
-            if (!checkModules()) invalidateStructure()
-        }
         if (offsetTimer % SECOND == 0L)
         {
-            moduleReceivers.removeIf { it.moduleProvider == null }
+            distributeEnergy()
         }
     }
+
+    /**
+     * Share energy of the space elevator out to all attached modules in one pass.
+     */
+    private fun distributeEnergy()
+    {
+        val container = energyContainer ?: return
+        pruneModules()
+        for (receiver in moduleReceivers)
+            receiver.receiveEnergy(container)
+    }
+
+    /**
+     * Drop modules which are attached to another provider or unloaded, the reloaded module is a new instance which
+     * is attached again by the next structure check.
+     */
+    private fun pruneModules()
+    {
+        moduleReceivers.removeIf { it.moduleProvider !== this || !(it as MetaTileEntity).isValid }
+    }
     
     override fun formStructure(context: PatternMatchContext)
     {
@@ -103,18 +116,40 @@ class MultiblockSpaceElevator(id: ResourceLocation)
         super.invalidateStructure()
         resetTileAbilities()
         this.casingTier = 0
-        moduleReceivers.forEach { it.sentWorkingDisabled() }
-        moduleReceivers.forEach { it.moduleProvider = null }
+        moduleReceivers.forEach {
+            it.sentWorkingDisabled()
+            it.moduleProvider = null
+        }
+        moduleReceivers.clear()
+        // Modules are only matched when the pattern is checked without cache.
+        structurePattern?.cache?.clear()
     }
     
     override fun checkStructurePattern()
     {
+        if (!isStructureFormed && offsetTimer % (5 * SECOND) == 0L)
+            reinitializeStructurePattern()
         super.checkStructurePattern()
-        if (offsetTimer % (5 * SECOND) == 0L || isFirstTick)
+        attachModules()
+    }
+
+    /**
+     * Attach modules which are matched in the structure check, modules are only attached when the structure is formed.
+     */
+    private fun attachModules()
+    {
+        if (pendingModules.isEmpty()) return
+        if (isStructureFormed)
         {
-            if (!isStructureFormed) reinitializeStructurePattern()
-            super.checkStructurePattern()
+            for (receiver in pendingModules)
+            {
+                receiver.moduleProvider = this
+                moduleReceivers.add(receiver)
+            }
+            pruneModules()
+            if (!checkModules()) invalidateStructure()
         }
+        pendingModules.clear()
     }
     
     private fun initializeAbilities()
@@ -296,7 +331,7 @@ class MultiblockSpaceElevator(id: ResourceLocation)
         //     if (casingType === BlockSpaceElevatorCasing.CasingType.BASE_CASING) return@Predicate true
         // }
 
-        if ((block as VariantBlock<*>).getState(state) === AerospaceCasing.ELEVATOR_BASE_CASING.state)
+        if ((block as? VariantBlock<*>)?.getState(state) === AerospaceCasing.ELEVATOR_BASE_CASING.state)
         {
             return@TraceabilityPredicate true
         }
@@ -311,10 +346,7 @@ class MultiblockSpaceElevator(id: ResourceLocation)
         
         val moduleReceiver: ModuleReceiver = mte as ModuleReceiver
         if (moduleReceiver.moduleProvider !== this)
-        {
-            moduleReceiver.moduleProvider = this
-            moduleReceivers.add(moduleReceiver)
-        }
+            pendingModules.add(moduleReceiver)
         true
     }
 
@@ -481,4 +513,16 @@ class MultiblockSpaceElevator(id: ResourceLocation)
 
     override fun isModule(receiver: ModuleReceiver): Boolean = moduleReceivers.contains(receiver)
 
+    override fun attachModule(receiver: ModuleReceiver)
+    {
+        if (!isStructureFormed || receiver.moduleProvider === this) return
+        pendingModules.add(receiver)
+        attachModules()
+    }
+
+    override fun detachModule(receiver: ModuleReceiver)
+    {
+        moduleReceivers.remove(receiver)
+    }
+
 }
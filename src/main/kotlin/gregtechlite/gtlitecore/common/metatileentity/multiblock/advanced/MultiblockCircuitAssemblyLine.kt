@@ -1,7 +1,6 @@
 package gregtechlite.gtlitecore.common.metatileentity.multiblock.advanced
 
 import com.morphismmc.morphismlib.util.ItemUtil
-import gregtech.api.capability.impl.ItemHandlerList
 import gregtech.api.capability.impl.MultiblockRecipeLogic
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity
 import gregtech.api.metatileentity.multiblock.IMultiblockPart
@@ -14,6 +13,7 @@ import gregtech.api.metatileentity.multiblock.MultiblockAbility.MAINTENANCE_HATC
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController
 import gregtech.api.pattern.BlockPattern
 import gregtech.api.pattern.FactoryBlockPattern
+import gregtech.api.pattern.PatternMatchContext
 import gregtech.api.recipes.Recipe
 import gregtech.api.recipes.RecipeMaps.CIRCUIT_ASSEMBLER_RECIPES
 import gregtech.api.util.RelativeDirection.FRONT
@@ -36,11 +36,21 @@ import net.minecraft.util.SoundEvent
 import net.minecraft.world.World
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
+import net.minecraftforge.items.IItemHandler
 
 class MultiblockCircuitAssemblyLine(id: ResourceLocation) :
     MultiMapMultiblockController(id, arrayOf(CIRCUIT_ASSEMBLER_RECIPES, CIRCUIT_ASSEMBLY_LINE_RECIPES))
 {
 
+    /**
+     * Slot of the merged input inventory which has the last found circuit pattern, it is checked before scanning all
+     * slots. The result of [lastCircuitPattern] is reused until input buses are notified.
+     */
+    private var circuitPatternSlot = -1
+    private var lastCircuitPattern: ItemStack? = null
+    private var hasLastCircuitPattern = false
+    private var isCircuitPatternSlotOutdated = true
+
     init
     {
         this.recipeMapWorkable = CircuitAssemblyLineRecipeLogic(this)
@@ -126,19 +136,64 @@ class MultiblockCircuitAssemblyLine(id: ResourceLocation) :
     {
         return if (getRecipeMap() == CIRCUIT_ASSEMBLY_LINE_RECIPES)
         {
-            val itemInputs = ItemHandlerList(getAbilities(IMPORT_ITEMS))
             val targetStack = recipe.getProperty(CircuitPatternProperty, null)
-            val hasTargetCircuitPattern = targetStack?.let { stack ->
-                (0 until itemInputs.slots).any {
-                    val currentStack = itemInputs.getStackInSlot(it)
-                    return@any ItemUtil.areItemTagsEqual(stack, currentStack, false)
-                }
-            } ?: false
+            val hasTargetCircuitPattern = targetStack?.let { hasCircuitPattern(it) } ?: false
 
             super.checkRecipe(recipe, consumeIfSuccess) && hasTargetCircuitPattern
         } else super.checkRecipe(recipe, consumeIfSuccess)
     }
 
+    override fun formStructure(context: PatternMatchContext)
+    {
+        super.formStructure(context)
+        resetCircuitPatternSlot()
+    }
+
+    override fun invalidateStructure()
+    {
+        super.invalidateStructure()
+        resetCircuitPatternSlot()
+    }
+
+    override fun addNotifiedInput(input: Any?)
+    {
+        super.addNotifiedInput(input)
+        if (input is IItemHandler)
+            isCircuitPatternSlotOutdated = true
+    }
+
+    private fun resetCircuitPatternSlot()
+    {
+        circuitPatternSlot = -1
+        lastCircuitPattern = null
+        hasLastCircuitPattern = false
+        isCircuitPatternSlotOutdated = true
+    }
+
+    private fun hasCircuitPattern(targetStack: ItemStack): Boolean
+    {
+        if (!isCircuitPatternSlotOutdated && targetStack === lastCircuitPattern)
+            return hasLastCircuitPattern
+
+        // Input inventory of controller is the merged handler of all input buses.
+        val itemInputs = getInputInventory()
+        var slot = circuitPatternSlot
+        if (slot !in 0 until itemInputs.slots
+            || !ItemUtil.areItemTagsEqual(targetStack, itemInputs.getStackInSlot(slot), false))
+        {
+            slot = (0 until itemInputs.slots).firstOrNull {
+                ItemUtil.areItemTagsEqual(targetStack, itemInputs.getStackInSlot(it), false)
+            } ?: -1
+        }
+
+        if (slot != -1)
+            circuitPatternSlot = slot
+        lastCircuitPattern = targetStack
+        hasLastCircuitPattern = slot != -1
+        isCircuitPatternSlotOutdated = false
+        return hasLastCircuitPattern
+    }
+
     fun getInputInventorySize() = getAbilities(IMPORT_ITEMS).size
 
     private inner class CircuitAssemblyLineRecipeLogic(mte: RecipeMapMultiblockController) : MultiblockRecipeLogic(mte, true)
@@ -39,12 +39,16 @@ import gregtechlite.gtlitecore.api.metatileentity.multiblock.UpgradeMode
 import gregtechlite.gtlitecore.api.unification.GTLiteMaterials.BlazingPyrotheum
 import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
 import gregtechlite.gtlitecore.common.block.variant.MetalCasing
+import gregtechlite.gtlitecore.core.GTLiteConfigHolder
 import net.minecraft.item.ItemStack
+import net.minecraft.nbt.NBTTagCompound
 import net.minecraft.util.ResourceLocation
 import net.minecraft.util.SoundEvent
 import net.minecraft.util.text.ITextComponent
 import net.minecraft.util.text.TextFormatting
 import net.minecraft.world.World
+import net.minecraftforge.fluids.FluidStack
+import net.minecraftforge.fluids.capability.IFluidHandler
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
 import kotlin.math.max
@@ -57,6 +61,15 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
     private var temperature = 0
     private var tier = 0
 
+    // Pyrotheum which is drained from input hatches but not consumed yet.
+    private var storedPyrotheum = 0
+
+    // Pyrotheum amount in input hatches, recounted only after the input tanks are changed.
+    private var pyrotheumReserve = 0
+    private var isReserveOutdated = true
+
+    private var pyrotheumBatch: FluidStack? = null
+
     init
     {
         recipeMapWorkable = VolcanusRecipeLogic(this)
@@ -65,6 +78,8 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
     companion object
     {
         private val casingState = MetalCasing.HASTELLOY_C276.state
+
+        private const val PYROTHEUM_PER_TICK = 2
     }
 
     override fun createMetaTileEntity(tileEntity: IGregTechTileEntity) = MultiblockVolcanus(metaTileEntityId)
@@ -78,6 +93,7 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
 
         temperature = context.getAttributeOrDefault(COIL_TIER, BlockWireCoil.CoilType.CUPRONICKEL).coilTemperature
         temperature += 100 * max(0, getTierByVoltage(getEnergyContainer().inputVoltage) - MV)
+        isReserveOutdated = true
     }
 
     override fun invalidateStructure()
@@ -86,6 +102,66 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
         motorCasingTier = 0
         coilTier = 0
         temperature = 0
+        isReserveOutdated = true
+    }
+
+    override fun addNotifiedInput(input: Any?)
+    {
+        super.addNotifiedInput(input)
+        if (input is IFluidHandler)
+            isReserveOutdated = true
+    }
+
+    private fun getPyrotheumReserve(): Int
+    {
+        if (isReserveOutdated)
+        {
+            val batch = getPyrotheumBatch()
+            var amount = 0
+            for (tank in getInputFluidInventory().fluidTanks)
+            {
+                val fluid = tank.fluid
+                if (fluid != null && fluid.isFluidEqual(batch))
+                    amount += fluid.amount
+            }
+            pyrotheumReserve = amount
+            isReserveOutdated = false
+        }
+        return pyrotheumReserve
+    }
+
+    /**
+     * Get the drained pyrotheum stack of one batch, which is the upkeep of the configured drain interval.
+     */
+    private fun getPyrotheumBatch(): FluidStack
+    {
+        val amount = PYROTHEUM_PER_TICK * GTLiteConfigHolder.machine.volcanus.pyrotheumDrainInterval
+        var batch = pyrotheumBatch
+        if (batch == null || batch.amount != amount)
+        {
+            batch = BlazingPyrotheum.getFluid(amount)
+            pyrotheumBatch = batch
+        }
+        return batch
+    }
+
+    /**
+     * Consume the pyrotheum upkeep of one tick, the upkeep is drained from input hatches in batches and stored in the
+     * controller, so the total consumption is same as draining it every tick.
+     */
+    private fun consumePyrotheum(): Boolean
+    {
+        if (storedPyrotheum < PYROTHEUM_PER_TICK)
+        {
+            if (storedPyrotheum + getPyrotheumReserve() < PYROTHEUM_PER_TICK) return false
+            val drained = getInputFluidInventory().drain(getPyrotheumBatch(), true)
+            if (drained != null)
+                storedPyrotheum += drained.amount
+            isReserveOutdated = true
+            if (storedPyrotheum < PYROTHEUM_PER_TICK) return false
+        }
+        storedPyrotheum -= PYROTHEUM_PER_TICK
+        return true
     }
 
     // @formatter:off
@@ -143,9 +219,7 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
 
                     if (getInputFluidInventory() != null)
                     {
-                        val promoterStack = getInputFluidInventory()
-                            .drain(BlazingPyrotheum.getFluid(Int.MAX_VALUE), false)
-                        val promoterAmount = promoterStack?.amount ?: 0
+                        val promoterAmount = getPyrotheumReserve() + storedPyrotheum
                         val amountKey = KeyUtil.number(TextFormatting.GREEN,
                             promoterAmount.toLong(), "L")
                         keyManager.add(KeyUtil.lang(TextFormatting.GRAY,
@@ -163,9 +237,7 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
     {
         super.configureWarningText(builder)
         builder.addCustom { keyManager, syncer ->
-            val promoterStack = getInputFluidInventory()
-                .drain(BlazingPyrotheum.getFluid(Int.MAX_VALUE), false)
-            if (promoterStack == null || promoterStack.amount == 0)
+            if (getPyrotheumReserve() + storedPyrotheum == 0)
             {
                 val warnKey = KeyUtil.lang(TextFormatting.YELLOW,
                     "gtlitecore.machine.volcanus.pyrotheum_warning")
@@ -174,6 +246,18 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
         }
     }
 
+    override fun writeToNBT(data: NBTTagCompound): NBTTagCompound
+    {
+        data.setInteger("StoredPyrotheum", storedPyrotheum)
+        return super.writeToNBT(data)
+    }
+
+    override fun readFromNBT(data: NBTTagCompound)
+    {
+        super.readFromNBT(data)
+        storedPyrotheum = data.getInteger("StoredPyrotheum")
+    }
+
     override fun getDataInfo(): List<ITextComponent>
     {
         val textList = super.getDataInfo()
@@ -202,24 +286,16 @@ class MultiblockVolcanus(id: ResourceLocation) : RecipeMapMultiblockController(i
     override fun checkRecipe(recipe: Recipe, consumeIfSuccess: Boolean): Boolean =
         temperature >= recipe.getProperty(TemperatureProperty.getInstance(), 0)!!
 
-    private inner class VolcanusRecipeLogic(private val mte: RecipeMapMultiblockController) : HeatingCoilRecipeLogic(mte)
+    private inner class VolcanusRecipeLogic(mte: RecipeMapMultiblockController) : HeatingCoilRecipeLogic(mte)
     {
 
         override fun updateRecipeProgress()
         {
             if (canRecipeProgress && drawEnergy(recipeEUt, true))
             {
-                val inputTank = (mte as MultiblockVolcanus).getInputFluidInventory()
-                val pyrotheumStack = BlazingPyrotheum.getFluid(2)
-                if (pyrotheumStack.isFluidStackIdentical(inputTank.drain(pyrotheumStack, false)))
-                {
-                    inputTank.drain(pyrotheumStack, true)
-                    if (++progressTime > maxProgressTime)
-                        completeRecipe()
-                } else
-                {
-                    return
-                }
+                if (!consumePyrotheum()) return
+                if (++progressTime > maxProgressTime)
+                    completeRecipe()
                 drawEnergy(recipeEUt, false)
             }
         }
@@ -3,7 +3,9 @@ package gregtechlite.gtlitecore.common.metatileentity.multiblock.generator
 import gregtech.api.GTValues.EV
 import gregtech.api.GTValues.MAX
 import gregtech.api.GTValues.V
+import gregtech.api.capability.IMultipleTankHandler
 import gregtech.api.capability.impl.MultiblockFuelRecipeLogic
+import gregtech.api.metatileentity.IVoidable
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity
 import gregtech.api.metatileentity.multiblock.FuelMultiblockController
 import gregtech.api.metatileentity.multiblock.IMultiblockPart
@@ -13,8 +15,12 @@ import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController
 import gregtech.api.pattern.BlockPattern
 import gregtech.api.pattern.FactoryBlockPattern
 import gregtech.api.pattern.PatternMatchContext
+import gregtech.api.recipes.Recipe
+import gregtech.api.recipes.RecipeBuilder
+import gregtech.api.recipes.RecipeMap
 import gregtech.client.renderer.ICubeRenderer
 import gregtechlite.gtlitecore.api.GTLiteAPI.NUCLEAR_REACTOR_CORE_TIER
+import gregtechlite.gtlitecore.api.capability.logic.UnboundedParallelLogic
 import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.getAttributeOrDefault
 import gregtechlite.gtlitecore.api.pattern.TraceabilityPredicates.nuclearReactorCores
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeMaps.NUCLEAR_FUELS
@@ -29,6 +35,7 @@ import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
 import net.minecraftforge.fml.relauncher.Side
 import net.minecraftforge.fml.relauncher.SideOnly
+import net.minecraftforge.items.IItemHandlerModifiable
 import kotlin.math.max
 
 /**
@@ -151,6 +158,23 @@ class MultiblockNuclearReactor(id: ResourceLocation)
 
         override fun getParallelLimit() = Int.MAX_VALUE
 
+        override fun findMultipliedParallelRecipe(recipeMap: RecipeMap<*>,
+                                                  currentRecipe: Recipe,
+                                                  inputs: IItemHandlerModifiable,
+                                                  fluidInputs: IMultipleTankHandler,
+                                                  outputs: IItemHandlerModifiable,
+                                                  fluidOutputs: IMultipleTankHandler,
+                                                  parallelLimit: Int,
+                                                  maxVoltage: Long,
+                                                  voidable: IVoidable): RecipeBuilder<*>?
+        {
+            return UnboundedParallelLogic.doParallelRecipes(recipeMap, currentRecipe, inputs, fluidInputs, outputs,
+                                                            fluidOutputs, parallelLimit, maxVoltage, voidable) {
+                super.findMultipliedParallelRecipe(recipeMap, currentRecipe, inputs, fluidInputs, outputs, fluidOutputs,
+                                                   parallelLimit, maxVoltage, voidable)
+            }
+        }
+
     }
 
 }
\ No newline at end of file
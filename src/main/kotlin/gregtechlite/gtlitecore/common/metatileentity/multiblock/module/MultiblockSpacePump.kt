@@ -43,6 +43,10 @@ class MultiblockSpacePump(metaTileEntityId: ResourceLocation,
     private val planets = intArrayOf(0, 0, 0, 0)
     private val fluids = intArrayOf(0, 0, 0, 0)
 
+    // Output fluids of (planet, fluid) configurations which are resolved when the configurations are changed.
+    private val outputFluids = arrayOfNulls<FluidStack>(4)
+    private var hasRecipe = false
+
     init
     {
         maxProgress = if (moduleTier == 3) SECOND else 4 * SECOND
@@ -279,6 +283,7 @@ class MultiblockSpacePump(metaTileEntityId: ResourceLocation,
     private fun setPlanetValue(index: Int, value: String)
     {
         planets[index] = value.toInt()
+        resolveOutputFluids()
     }
 
     private fun getFluidValue(index: Int): String = fluids[index].toString()
@@ -286,6 +291,14 @@ class MultiblockSpacePump(metaTileEntityId: ResourceLocation,
     private fun setFluidValue(index: Int, value: String)
     {
         fluids[index] = value.toInt()
+        resolveOutputFluids()
+    }
+
+    private fun resolveOutputFluids()
+    {
+        for (i in 0..3)
+            outputFluids[i] = SpacePumpRecipeFrontend.getRecipe(planets[i], fluids[i])
+        hasRecipe = if (moduleTier > 1) outputFluids.any { it != null } else outputFluids[0] != null
     }
 
     override fun updateFormedValid()
@@ -315,39 +328,16 @@ class MultiblockSpacePump(metaTileEntityId: ResourceLocation,
             if (progress % maxProgress != 0) return
             progress = 0
 
-            val fluidStacks = ArrayList<FluidStack>()
-            for (i in 0..3)
-            {
-                if (SpacePumpRecipeFrontend.RECIPES.containsKey(Pair(planets[i], fluids[i])))
-                {
-                    SpacePumpRecipeFrontend.RECIPES[Pair(planets[i], fluids[i])]?.let { fluidStacks.add(it) }
-                }
-            }
-            fluidStacks.forEach { fluidStack ->
-                outputFluidInventory?.fill(fluidStack, true)
-            }
-        }
-    }
-
-    private fun checkRecipes(): Boolean
-    {
-        if (moduleTier > 1)
-        {
-            for (i in 0..3)
+            for (fluidStack in outputFluids)
             {
-                val fluidStack = SpacePumpRecipeFrontend.RECIPES[Pair(planets[i], fluids[i])]
                 if (fluidStack != null)
-                    return true
+                    outputFluidInventory?.fill(fluidStack, true)
             }
         }
-        else
-        {
-            val fluidStack = SpacePumpRecipeFrontend.RECIPES[Pair(planets[0], fluids[0])]
-            return fluidStack != null
-        }
-        return false
     }
 
+    private fun checkRecipes() = hasRecipe
+
     override fun writeToNBT(data: NBTTagCompound): NBTTagCompound
     {
         super.writeToNBT(data)
@@ -381,6 +371,7 @@ class MultiblockSpacePump(metaTileEntityId: ResourceLocation,
             val fluidNBT = fluidsNBT.getCompoundTagAt(i)
             fluids[i] = fluidNBT.getInteger("fluid")
         }
+        resolveOutputFluids()
     }
 
 }
@@ -23,12 +23,10 @@ import gregtech.api.metatileentity.multiblock.IMultiblockAbilityPart
 import gregtech.api.metatileentity.multiblock.MultiblockAbility
 import gregtech.api.mui.GTGuiTextures
 import gregtech.api.mui.GTGuis
-import gregtech.api.recipes.RecipeMaps
-import gregtech.api.recipes.properties.impl.DimensionProperty
-import gregtech.api.unification.material.Materials
 import gregtech.common.metatileentities.multi.multiblockpart.MetaTileEntityMultiblockNotifiablePart
 import gregtech.common.mui.widget.GTFluidSlot
 import gregtechlite.gtlitecore.api.TICK
+import gregtechlite.gtlitecore.api.recipe.frontend.AirIntakeRecipeFrontend
 import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
 import net.minecraft.client.resources.I18n
 import net.minecraft.item.ItemStack
@@ -36,10 +34,8 @@ import net.minecraft.network.PacketBuffer
 import net.minecraft.util.EnumFacing
 import net.minecraft.util.EnumParticleTypes
 import net.minecraft.util.ResourceLocation
-import net.minecraft.util.math.BlockPos
 import net.minecraft.world.World
 import net.minecraftforge.common.capabilities.Capability
-import net.minecraftforge.fluids.Fluid
 import net.minecraftforge.fluids.FluidStack
 import net.minecraftforge.fluids.FluidTank
 import net.minecraftforge.fluids.FluidUtil
@@ -63,7 +59,11 @@ class PartMachineAirIntakeHatch(id: ResourceLocation,
     private val rand: Random = Random()
 
     private var fluidTank: FluidTank = NotifiableFluidTank(capacity, this, false)
-    private var airType: Fluid? = null
+    private var airStack: FluidStack? = null
+
+    // Whether the block in front of the hatch is air, it is checked again only when neighbors are changed.
+    private var hasAirInFront = false
+    private var isAirCheckOutdated = true
 
     private var isWorkingEnabled: Boolean = false
 
@@ -79,29 +79,14 @@ class PartMachineAirIntakeHatch(id: ResourceLocation,
         super.update()
         if (isFirstTick && !world.isRemote)
         {
-            RecipeMaps.GAS_COLLECTOR_RECIPES.recipeList.forEach { recipe ->
-                if (!recipe.hasProperty(DimensionProperty.getInstance())) return
-
-                val dimensions = recipe.getProperty(DimensionProperty.getInstance(), null)
-                if (dimensions?.whiteListDimensions[0] == world.provider.dimension)
-                {
-                    airType = recipe.fluidOutputs[0].fluid
-                }
-
-                if (airType == null)
-                    airType = Materials.Air.fluid
-            }
+            airStack = FluidStack(AirIntakeRecipeFrontend.getAirType(world.provider.dimension), transferRate)
         }
 
-        val blockFacingPos = BlockPos(pos.x + frontFacing.xOffset,
-                                      pos.y + frontFacing.yOffset,
-                                      pos.z + frontFacing.zOffset)
-
-        if (offsetTimer % (5 * TICK) == 0L && world.isAirBlock(blockFacingPos))
+        if (offsetTimer % (5 * TICK) == 0L && hasAirInFront())
         {
             if (!world.isRemote)
             {
-                val fillAmount = fluidTank.fill(FluidStack(airType, transferRate), true)
+                val fillAmount = fluidTank.fill(airStack, true)
                 if (fillAmount == 0 && isWorkingEnabled)
                 {
                     isWorkingEnabled = false
@@ -176,6 +161,28 @@ class PartMachineAirIntakeHatch(id: ResourceLocation,
         fillContainerFromInternalTank(fluidTank)
     }
 
+    private fun hasAirInFront(): Boolean
+    {
+        if (isAirCheckOutdated)
+        {
+            hasAirInFront = world.isAirBlock(pos.offset(frontFacing))
+            isAirCheckOutdated = false
+        }
+        return hasAirInFront
+    }
+
+    override fun onNeighborChanged()
+    {
+        super.onNeighborChanged()
+        isAirCheckOutdated = true
+    }
+
+    override fun setFrontFacing(frontFacing: EnumFacing)
+    {
+        super.setFrontFacing(frontFacing)
+        isAirCheckOutdated = true
+    }
+
     override fun receiveCustomData(dataId: Int, buf: PacketBuffer)
     {
         super.receiveCustomData(dataId, buf)
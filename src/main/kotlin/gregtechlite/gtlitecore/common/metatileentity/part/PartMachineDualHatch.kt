@@ -43,6 +43,7 @@ import gregtech.common.mui.widget.GTFluidSlot
 import gregtechlite.gtlitecore.api.TICK
 import gregtechlite.gtlitecore.api.extension.copy
 import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
+import gregtechlite.gtlitecore.core.GTLiteConfigHolder
 import net.minecraft.client.resources.I18n
 import net.minecraft.entity.player.EntityPlayer
 import net.minecraft.item.ItemStack
@@ -73,6 +74,18 @@ class PartMachineDualHatch(id: ResourceLocation,
     
     private var workingEnabled = true
     private var autoCollapse = false
+
+    /**
+     * Scheduling of event-driven transfers, the next transfer is brought forward when contents of the hatch or its
+     * neighbors are changed, and the interval is doubled when a transfer moved nothing.
+     */
+    private var nextTransferTime = 0L
+    private var transferInterval = TRANSFER_INTERVAL
+
+    companion object
+    {
+        private const val TRANSFER_INTERVAL = 5 * TICK
+    }
     
     init
     {
@@ -118,7 +131,14 @@ class PartMachineDualHatch(id: ResourceLocation,
         val tanks = arrayOfNulls<IFluidTank>(size)
         for (index in tanks.indices)
         {
-            tanks[index] = NotifiableFluidTank(getTankSize(), null, isExportHatch)
+            tanks[index] = object : NotifiableFluidTank(getTankSize(), null, isExportHatch)
+            {
+                override fun onContentsChanged()
+                {
+                    super.onContentsChanged()
+                    scheduleTransfer()
+                }
+            }
         }
         return tanks
     }
@@ -128,16 +148,25 @@ class PartMachineDualHatch(id: ResourceLocation,
         return if (isExportHatch)
             GTItemStackHandler(this, 0)
         else
-            NotifiableItemStackHandler(this, getItemSize(), null, false)
+            createItemHandler(false)
     }
     
     override fun createExportItemHandler(): IItemHandlerModifiable
     {
         return if (isExportHatch)
-            NotifiableItemStackHandler(this, getItemSize(), null, true)
+            createItemHandler(true)
         else
             GTItemStackHandler(this, 0)
     }
+
+    private fun createItemHandler(isExport: Boolean) = object : NotifiableItemStackHandler(this, getItemSize(), null, isExport)
+    {
+        override fun onContentsChanged(slot: Int)
+        {
+            super.onContentsChanged(slot)
+            scheduleTransfer()
+        }
+    }
     
     override fun createImportFluidHandler(): FluidTankList
     {
@@ -159,21 +188,24 @@ class PartMachineDualHatch(id: ResourceLocation,
     {
         super.update()
         
-        if (!world.isRemote && offsetTimer % (5 * TICK) == 0L)
+        if (world.isRemote) return
+
+        if (workingEnabled && GTLiteConfigHolder.machine.dualHatch.eventDrivenTransfer)
         {
-            if (workingEnabled)
+            if (offsetTimer >= nextTransferTime)
             {
-                if (isExportHatch)
-                {
-                    pushItemsIntoNearbyHandlers(getFrontFacing())
-                    pushFluidsIntoNearbyHandlers(getFrontFacing())
-                }
-                else
-                {
-                    pullItemsFromNearbyHandlers(getFrontFacing())
-                    pullFluidsFromNearbyHandlers(getFrontFacing())
-                }
+                // Back off before transferring, transfers which moved anything will schedule the next one again.
+                transferInterval = min(transferInterval * 2,
+                                       GTLiteConfigHolder.machine.dualHatch.maxTransferInterval)
+                nextTransferTime = offsetTimer + transferInterval
+                transferContents()
             }
+        }
+
+        if (offsetTimer % (5 * TICK) == 0L)
+        {
+            if (workingEnabled && !GTLiteConfigHolder.machine.dualHatch.eventDrivenTransfer)
+                transferContents()
             
             if (autoCollapse())
             {
@@ -188,6 +220,41 @@ class PartMachineDualHatch(id: ResourceLocation,
         }
     }
     
+    private fun transferContents()
+    {
+        if (isExportHatch)
+        {
+            pushItemsIntoNearbyHandlers(getFrontFacing())
+            pushFluidsIntoNearbyHandlers(getFrontFacing())
+        }
+        else
+        {
+            pullItemsFromNearbyHandlers(getFrontFacing())
+            pullFluidsFromNearbyHandlers(getFrontFacing())
+        }
+    }
+
+    /**
+     * Schedule the next event-driven transfer at most [TRANSFER_INTERVAL] later and reset the backoff.
+     */
+    private fun scheduleTransfer()
+    {
+        transferInterval = TRANSFER_INTERVAL
+        nextTransferTime = min(nextTransferTime, offsetTimer + TRANSFER_INTERVAL)
+    }
+
+    override fun onNeighborChanged()
+    {
+        super.onNeighborChanged()
+        scheduleTransfer()
+    }
+
+    override fun setFrontFacing(frontFacing: EnumFacing)
+    {
+        super.setFrontFacing(frontFacing)
+        scheduleTransfer()
+    }
+
     override fun hasGhostCircuitInventory(): Boolean = !this.isExportHatch
     
     override fun setGhostCircuitConfig(config: Int)
@@ -362,6 +429,7 @@ class PartMachineDualHatch(id: ResourceLocation,
     override fun setWorkingEnabled(workingEnabled: Boolean)
     {
         this.workingEnabled = workingEnabled
+        scheduleTransfer()
         if (world != null && !world.isRemote)
         {
             writeCustomData(GregtechDataCodes.WORKING_ENABLED) { it.writeBoolean(workingEnabled) }
@@ -28,12 +28,13 @@ import gregtech.api.metatileentity.multiblock.MultiblockControllerBase
 import gregtech.api.mui.GTGuiTextures
 import gregtech.api.mui.GTGuis
 import gregtech.api.mui.widget.GhostCircuitSlotWidget
-import gregtech.api.util.GTHashMaps
+import gregtech.api.util.ItemStackHashStrategy
 import gregtech.common.metatileentities.multi.multiblockpart.MetaTileEntityItemBus
 import gregtechlite.gtlitecore.api.TICK
 import gregtechlite.gtlitecore.api.capability.handler.ConfigurableItemStackHandler
 import gregtechlite.gtlitecore.api.extension.copy
 import gregtechlite.gtlitecore.common.metatileentity.GTLiteMetaTileEntities
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap
 import net.minecraft.client.resources.I18n
 import net.minecraft.creativetab.CreativeTabs
 import net.minecraft.item.ItemStack
@@ -44,6 +45,7 @@ import net.minecraft.util.ResourceLocation
 import net.minecraft.world.World
 import net.minecraftforge.items.IItemHandlerModifiable
 import kotlin.math.max
+import kotlin.math.min
 import kotlin.math.sqrt
 
 class PartMachineHugeItemBus(metaTileEntityId: ResourceLocation, tier: Int)
@@ -106,7 +108,7 @@ class PartMachineHugeItemBus(metaTileEntityId: ResourceLocation, tier: Int)
          {
              // Exclude the ghost circuit inventory from the auto collapse, so it does not extract any ghost circuits
              // from the slot
-             val inventory = super.getImportItems()
+             val inventory = getItemInventory()
              if (!isAttachedToMultiBlock || this.getNotifiedItemInputList().contains(inventory))
              {
                  collapseInventorySlotContents(inventory)
@@ -116,6 +118,12 @@ class PartMachineHugeItemBus(metaTileEntityId: ResourceLocation, tier: Int)
 
     override fun isAutoCollapse(): Boolean = this.autoCollapse
 
+    /**
+     * Get the inventory which holds the items of the bus, it is the huge slot inventory when the bus has a ghost
+     * circuit slot, or the default import inventory otherwise.
+     */
+    private fun getItemInventory(): IItemHandlerModifiable = slotItemInventory ?: super.getImportItems()
+
     override fun setWorkingEnabled(workingEnabled: Boolean)
     {
         this.workingEnabled = workingEnabled
@@ -183,48 +191,66 @@ class PartMachineHugeItemBus(metaTileEntityId: ResourceLocation, tier: Int)
         }
     }
 
+    /**
+     * Merge stacks of same items in [inventory] in place. Slots are walked in order with an index of the open (not
+     * full) slot of each item, stacks are poured into the open slot of its item, so only slots whose contents are
+     * changed will be set. The limit of each slot is the real slot limit of [inventory], which can be larger than the
+     * max stack size of items.
+     */
     private fun collapseInventorySlotContents(inventory: IItemHandlerModifiable)
     {
-        // Gather a snapshot of the provided inventory
-        val inventoryContents = GTHashMaps.fromItemHandler(inventory, true)
-        val inventoryItemContents: MutableList<ItemStack> = ArrayList()
+        val slots = inventory.getSlots()
+        val openSlots = Object2IntOpenCustomHashMap<ItemStack>(ItemStackHashStrategy.comparingAllButCount())
+        openSlots.defaultReturnValue(-1)
+        var changedStacks: Array<ItemStack?>? = null
 
-        // Populate the list of item stacks in the inventory with apportioned item stacks, for easy replacement
-        for (e in inventoryContents.object2IntEntrySet())
+        for (slot in 0 ..< slots)
         {
-            val stack: ItemStack = e.key!!
-            var count = e.intValue
-            val maxStackSize = stack.maxStackSize
-            while (count >= maxStackSize)
-            {
-                val copy = stack.copy(maxStackSize)
-                inventoryItemContents.add(copy)
-                count -= maxStackSize
-            }
-            if (count > 0)
+            val key = changedStacks?.get(slot) ?: inventory.getStackInSlot(slot)
+            if (key.isEmpty) continue
+
+            var stack = key
+            val openSlot = openSlots.getInt(key)
+            if (openSlot != -1)
             {
-                val copy = stack.copy(count)
-                inventoryItemContents.add(copy)
+                val openStack = changedStacks?.get(openSlot) ?: inventory.getStackInSlot(openSlot)
+                val limit = getStackLimit(inventory, openSlot, openStack)
+                val moved = min(limit - openStack.count, stack.count)
+                if (moved > 0)
+                {
+                    if (changedStacks == null)
+                        changedStacks = arrayOfNulls(slots)
+                    changedStacks[openSlot] = openStack.copy(openStack.count + moved)
+                    stack = stack.copy(stack.count - moved)
+                    changedStacks[slot] = if (stack.isEmpty) ItemStack.EMPTY else stack
+                    if (openStack.count + moved < limit) continue
+                }
             }
+            // All slots of this item before this slot are full now, so this slot is the open slot of the item.
+            if (!stack.isEmpty && stack.count < getStackLimit(inventory, slot, stack))
+                openSlots.put(stack, slot)
+            else
+                openSlots.removeInt(key)
         }
 
-        for (i in 0 ..< inventory.getSlots())
+        if (changedStacks == null) return
+        for (slot in 0 ..< slots)
         {
-            val stackToMove: ItemStack
-            // Ensure that we are not exceeding the List size when attempting to populate items
-            if (i >= inventoryItemContents.size)
-            {
-                stackToMove = ItemStack.EMPTY
-            }
-            else
-            {
-                stackToMove = inventoryItemContents[i]
-            }
-            // Populate the slots
-            inventory.setStackInSlot(i, stackToMove)
+            val stack = changedStacks[slot] ?: continue
+            inventory.setStackInSlot(slot, stack)
         }
     }
 
+    /**
+     * Get the stack limit of [slot], the max stack size of items is only respected by handlers whose slot limit is not
+     * larger than a normal stack.
+     */
+    private fun getStackLimit(inventory: IItemHandlerModifiable, slot: Int, stack: ItemStack): Int
+    {
+        val slotLimit = inventory.getSlotLimit(slot)
+        return if (slotLimit > 64) slotLimit else min(slotLimit, stack.maxStackSize)
+    }
+
     override fun setAutoCollapse(inverted: Boolean)
     {
         this.autoCollapse = inverted
@@ -232,7 +258,7 @@ class PartMachineHugeItemBus(metaTileEntityId: ResourceLocation, tier: Int)
         {
             if (this.autoCollapse)
             {
-                addNotifiedInput(super.getImportItems())
+                addNotifiedInput(getItemInventory())
             }
             writeCustomData(GregtechDataCodes.TOGGLE_COLLAPSE_ITEMS) { it.writeBoolean(this.autoCollapse) }
             notifyBlockUpdate()
@@ -14,6 +14,7 @@ import gregtechlite.gtlitecore.client.renderer.texture.GTLiteOverlays
 import net.minecraft.entity.Entity
 import net.minecraft.entity.EntityList
 import net.minecraft.entity.EntityLivingBase
+import net.minecraft.entity.player.EntityPlayer
 import net.minecraft.util.ResourceLocation
 import net.minecraft.util.math.AxisAlignedBB
 import java.util.function.Function
@@ -25,15 +26,22 @@ class MachineMobExtractor(metaTileEntityId: ResourceLocation, recipeMap: RecipeM
 
     private var boundingBox: AxisAlignedBB? = null
     private var entityAttackable: EntityLivingBase? = null
-    private var entities: MutableList<Entity>? = null
-    private val entitiesInProximity: MutableList<Entity>
-        get()
+
+    // Living entities on top of the machine, refreshed every 5 ticks.
+    private var trackedEntities: List<EntityLivingBase> = emptyList()
+    private var lastTrackedTime = -1L
+
+    companion object
+    {
+
+        private fun getEntityClass(entityId: ResourceLocation): Class<out Entity>?
         {
-            if (boundingBox == null)
-                boundingBox = AxisAlignedBB(pos.up())
-            return world.getEntitiesWithinAABB(Entity::class.java, boundingBox!!)
+            if (entityId == MobOnTopProperty.playerEntity) return EntityPlayer::class.java
+            return EntityList.getClass(entityId)
         }
 
+    }
+
     override fun createMetaTileEntity(tileEntity: IGregTechTileEntity) = MachineMobExtractor(metaTileEntityId, MOB_EXTRACTOR_RECIPES, GTLiteOverlays.MOB_EXTRACTOR_OVERLAY,
                                                                                              tier, hasFrontFacing(), tankScalingFunction)
 
@@ -41,19 +49,33 @@ class MachineMobExtractor(metaTileEntityId: ResourceLocation, recipeMap: RecipeM
 
     fun checkRecipe(recipe: Recipe): Boolean
     {
-        val entityId = recipe.getProperty(MobOnTopProperty, null)
-        if (entities == null || offsetTimer % 5 * TICK == 0L)
-            entities = entitiesInProximity
+        val entityId = recipe.getProperty(MobOnTopProperty, null) ?: return false
+        val entityClass = getEntityClass(entityId) ?: return false
+        if (lastTrackedTime < 0 || offsetTimer - lastTrackedTime >= 5 * TICK)
+            updateTrackedEntities()
 
-        for (entity in entities!!)
+        for (entity in trackedEntities)
         {
-            if (EntityList.isMatchingName(entity, entityId!!))
+            // Entities which are killed after the last refresh are still in the list.
+            if (entity.isDead) continue
+            // Entity ids are registered by exact classes, except players which have no entity id.
+            val isMatched = if (entityClass === EntityPlayer::class.java) entity is EntityPlayer
+                            else entity.javaClass === entityClass
+            if (isMatched)
             {
-                entityAttackable = entity as? EntityLivingBase
+                entityAttackable = entity
                 return true
             }
         }
         return false
     }
 
+    private fun updateTrackedEntities()
+    {
+        if (boundingBox == null)
+            boundingBox = AxisAlignedBB(pos.up())
+        trackedEntities = world.getEntitiesWithinAABB(EntityLivingBase::class.java, boundingBox!!)
+        lastTrackedTime = offsetTimer
+    }
+
 }
@@ -131,6 +131,7 @@ class MetaTileEntityExtender(metaTileEntityId: ResourceLocation,
     fun setInputFacing(inputFacing: EnumFacing)
     {
         this.inputFacing = inputFacing
+        invalidateNeighborCache()
         if (!world.isRemote)
         {
             notifyBlockUpdate()
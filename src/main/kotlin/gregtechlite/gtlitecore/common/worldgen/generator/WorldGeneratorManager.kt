@@ -20,6 +20,14 @@ class WorldGeneratorManager : IWorldGenerator
             GameRegistry.registerWorldGenerator(WorldGeneratorManager(), 1)
         }
 
+        internal fun onWorldUnload(world: World)
+        {
+            WorldGeneratorRegistry.generators.forEach { generator ->
+                if (generator is AbstractWorldGenerator)
+                    generator.invalidateWorld(world)
+            }
+        }
+
     }
 
     override fun generate(random: Random,
@@ -6,6 +6,7 @@ import gregtechlite.gtlitecore.api.MOD_ID
 import gregtechlite.gtlitecore.api.MOD_NAME
 import gregtechlite.gtlitecore.api.module.CustomModule
 import gregtechlite.gtlitecore.api.module.Module
+import gregtechlite.gtlitecore.api.recipe.frontend.AirIntakeRecipeFrontend
 import gregtechlite.gtlitecore.api.unification.ore.GTLiteStoneTypes
 import gregtechlite.gtlitecore.common.CommonProxy
 import gregtechlite.gtlitecore.common.EventHandlers
@@ -136,7 +137,8 @@ internal class CoreModule : CustomModule
     
     override fun loadComplete(event: FMLLoadCompleteEvent)
     {
-        // ...
+        logger.debug("Indexing Air Intake Hatch air types by Gas Collector recipes")
+        AirIntakeRecipeFrontend.init()
     }
     
     override fun serverStarting(event: FMLServerStartingEvent)
@@ -27,7 +27,6 @@ import mezz.jei.api.ingredients.IIngredientBlacklist
 import mezz.jei.api.ingredients.IIngredientRegistry
 import mezz.jei.api.ingredients.VanillaTypes
 import mezz.jei.api.recipe.IRecipeCategoryRegistration
-import net.minecraftforge.fluids.FluidStack
 import org.apache.logging.log4j.Logger
 
 @Suppress("unused")
@@ -86,9 +85,12 @@ class JustEnoughItemsModule : IntegrationSubModule(), IModPlugin
         logger.info("Registering JEI Recipe Wrappers and Catalysts...")
 
         val spacePumpId = SpacePumpRecipeCategory.UID
-        val spacePumpInfo = SpacePumpRecipeFrontend.RECIPES.entries
-            .sortedWith(compareBy<Map.Entry<Pair<Int, Int>, FluidStack>> { it.key.first }.thenBy { it.key.second })
-            .map { SpacePumpRecipeWrapper(it.key.first, it.key.second, it.value) }
+        val spacePumpInfo = SpacePumpRecipeFrontend.RECIPES.long2ObjectEntrySet()
+            .sortedBy { it.longKey }
+            .map {
+                SpacePumpRecipeWrapper(SpacePumpRecipeFrontend.getPlanetId(it.longKey),
+                                       SpacePumpRecipeFrontend.getFluidId(it.longKey), it.value)
+            }
             .distinct()
             .toList()
 
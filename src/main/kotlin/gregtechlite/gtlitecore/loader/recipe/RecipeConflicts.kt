@@ -28,6 +28,7 @@ import gregtechlite.gtlitecore.api.MINUTE
 import gregtechlite.gtlitecore.api.SECOND
 import gregtechlite.gtlitecore.api.extension.EUt
 import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeHandler
+import gregtechlite.gtlitecore.api.recipe.GTLiteRecipeHandler.InputSignature
 
 internal object RecipeConflicts
 {
@@ -37,14 +38,31 @@ internal object RecipeConflicts
 
     fun init()
     {
-        // Conflict between Polydimethylsiloxane (C2H6OSi) and Carbon Tetrachloride (CCl4).
-        GTLiteRecipeHandler.removeChemicalRecipes(
-            arrayOf(OreDictUnifier.get(dust, Silicon),
-                IntCircuitIngredient.getIntegratedCircuit(2)),
-            arrayOf(Water.getFluid(1000),
-                Chlorine.getFluid(4000),
-                Methane.getFluid(2000)))
+        // Conflicted recipes are removed in one batch before the replacements are registered.
+        GTLiteRecipeHandler.removeChemicalRecipes(listOf(
+            // Conflict between Polydimethylsiloxane (C2H6OSi) and Carbon Tetrachloride (CCl4).
+            InputSignature(
+                arrayOf(OreDictUnifier.get(dust, Silicon),
+                    IntCircuitIngredient.getIntegratedCircuit(2)),
+                arrayOf(Water.getFluid(1000),
+                    Chlorine.getFluid(4000),
+                    Methane.getFluid(2000))),
+            // Conflict between Methyltrichlorosilane (Si(CH3)Cl3) and Dimethyldichlorosilane (Si(CH3)2Cl2)
+            InputSignature(
+                arrayOf(OreDictUnifier.get(dust, Silicon)),
+                arrayOf(Chloromethane.getFluid(2000))),
+            // Add an int circuit to C4H8O recipe.
+            InputSignature(
+                arrayOf(),
+                arrayOf(Propene.getFluid(1000),
+                    Hydrogen.getFluid(2000),
+                    CarbonMonoxide.getFluid(1000))),
+            // Conflicts between NaHSO4 and C6H6NNaO3S.
+            InputSignature(
+                arrayOf(OreDictUnifier.get(dust, SodiumHydroxide, 3)),
+                arrayOf(SulfuricAcid.getFluid(1000)))))
 
+        // Polydimethylsiloxane (C2H6OSi)
         LARGE_CHEMICAL_RECIPES.recipeBuilder()
             .circuitMeta(24)
             .input(dust, Silicon, 3)
@@ -58,11 +76,6 @@ internal object RecipeConflicts
             .duration(2 * MINUTE + 24 * SECOND)
             .buildAndRegister()
 
-        // Conflict between Methyltrichlorosilane (Si(CH3)Cl3) and Dimethyldichlorosilane (Si(CH3)2Cl2)
-        GTLiteRecipeHandler.removeChemicalRecipes(
-            arrayOf(OreDictUnifier.get(dust, Silicon)),
-            arrayOf(Chloromethane.getFluid(2000)))
-
         // Si + 2CH3Cl -> Si(CH3)2Cl2
         CHEMICAL_RECIPES.recipeBuilder()
             .circuitMeta(1)
@@ -73,12 +86,7 @@ internal object RecipeConflicts
             .duration(12 * SECOND)
             .buildAndRegister()
 
-        // Add an int circuit to C4H8O recipe.
-        GTLiteRecipeHandler.removeChemicalRecipes(
-            arrayOf(Propene.getFluid(1000),
-                Hydrogen.getFluid(2000),
-                CarbonMonoxide.getFluid(1000)))
-
+        // C3H6 + 2H + CO -> C4H8O
         CHEMICAL_RECIPES.recipeBuilder()
             .circuitMeta(3)
             .fluidInputs(Propene.getFluid(1000))
@@ -89,11 +97,7 @@ internal object RecipeConflicts
             .duration(10 * SECOND)
             .buildAndRegister()
 
-        // Conflicts between NaHSO4 and C6H6NNaO3S.
-        GTLiteRecipeHandler.removeChemicalRecipes(
-            arrayOf(OreDictUnifier.get(dust, SodiumHydroxide, 3)),
-            arrayOf(SulfuricAcid.getFluid(1000)))
-
+        // NaOH + H2SO4 -> NaHSO4 + H2O
         CHEMICAL_RECIPES.recipeBuilder()
             .circuitMeta(1)
             .input(dust, SodiumHydroxide, 3)
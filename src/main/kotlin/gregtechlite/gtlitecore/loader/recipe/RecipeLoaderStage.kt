@@ -0,0 +1,19 @@
+package gregtechlite.gtlitecore.loader.recipe
+
+import gregtechlite.gtlitecore.api.GTLiteLog
+
+/**
+ * A named group of recipe loaders which are loaded one after another, the load time of the stage is logged.
+ */
+internal class RecipeLoaderStage(private val name: String,
+                                 private vararg val loaders: () -> Unit)
+{
+
+    fun load()
+    {
+        val startTime = System.nanoTime()
+        loaders.forEach { it() }
+        GTLiteLog.logger.info("Loaded recipe stage '{}' in {} ms", name, (System.nanoTime() - startTime) / 1_000_000)
+    }
+
+}
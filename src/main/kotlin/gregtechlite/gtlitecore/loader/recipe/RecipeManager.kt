@@ -20,37 +20,45 @@ internal object RecipeManager
     fun init()
     {
         // Hand-Crafting Recipes and GTCEu Wood Recipes.
-        CraftingRecipeLoader.init()
-        GTWoodRecipeLoader.init()
+        RecipeLoaderStage("crafting",
+                          CraftingRecipeLoader::init,
+                          GTWoodRecipeLoader::init).load()
 
         // Recipe Producers.
-        RecipeProducerList.init()
+        RecipeLoaderStage("producers",
+                          RecipeProducerList::init).load()
 
         // Single and Multiblock Machines and Machine Casings Recipes.
-        GTMetaTileEntityLoader.init()
-        MachineRecipeLoader.init()
-        MachineCasingRecipeList.init()
+        RecipeLoaderStage("machines",
+                          GTMetaTileEntityLoader::init,
+                          MachineRecipeLoader::init,
+                          MachineCasingRecipeList::init).load()
 
         // Chemistry, Ore and Food Processings Recipes.
-        ChemistryRecipeList.init()
-        OreProcessingList.init()
-        FoodProcessingList.init()
+        RecipeLoaderStage("processings",
+                          ChemistryRecipeList::init,
+                          OreProcessingList::init,
+                          FoodProcessingList::init).load()
 
         // Components, Crafting Components and Machine Recipes.
-        ComponentRecipeList.init()
-        MachineRecipeList.init()
+        RecipeLoaderStage("components",
+                          ComponentRecipeList::init,
+                          MachineRecipeList::init).load()
 
         // Circuit Recipes.
-        CircuitRecipeList.init()
+        RecipeLoaderStage("circuits",
+                          CircuitRecipeList::init).load()
 
         // Override Recipes and Recipe Conflicts Resolver.
-        OverrideRecipeLoader.init()
-        RecipeConflicts.init()
+        RecipeLoaderStage("overrides",
+                          OverrideRecipeLoader::init,
+                          RecipeConflicts::init).load()
 
         // Pseudo Recipes (Recipe Frontends).
-        SpacePumpRecipeFrontend.init()
+        RecipeLoaderStage("frontends",
+                          SpacePumpRecipeFrontend::init).load()
     }
 
     // @formatter:on
 
-}
\ No newline at end of file
+}